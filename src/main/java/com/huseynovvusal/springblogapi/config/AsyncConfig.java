@@ -0,0 +1,172 @@
+package com.huseynovvusal.springblogapi.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.annotation.AsyncConfigurer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Configures bounded, named executors for {@code @Async} event listeners. Each event type gets its
+ * own pool so a slow SMTP server delaying one kind of email cannot starve the others, and every
+ * pool has a bounded queue plus a rejection policy instead of Spring's unbounded default.
+ *
+ * <p>Platform-thread pools are {@link ThreadPoolTaskExecutor} beans, so Spring Boot Actuator
+ * publishes their {@code executor.active}, {@code executor.queued} and {@code
+ * executor.queue.remaining} metrics automatically. Virtual-thread executors publish {@code
+ * async.executor.virtual.active}; saturation is counted in {@code async.executor.rejected}.
+ *
+ * <p>When the application runs in virtual-thread mode ({@code spring.threads.virtual.enabled}),
+ * every executor switches to virtual threads regardless of its own {@code virtual-threads} flag.
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+@EnableConfigurationProperties(AsyncExecutorProperties.class)
+public class AsyncConfig implements AsyncConfigurer {
+
+  /** Executor for welcome emails sent after registration. */
+  public static final String USER_REGISTERED_EXECUTOR = "userRegisteredExecutor";
+
+  /** Executor for password reset link emails. */
+  public static final String FORGOT_PASSWORD_EXECUTOR = "forgotPasswordExecutor";
+
+  /** Executor for password reset confirmation emails. */
+  public static final String RESET_PASSWORD_EXECUTOR = "resetPasswordExecutor";
+
+  private final AsyncExecutorProperties properties;
+  private final ObjectProvider<MeterRegistry> meterRegistry;
+
+  @Value("${spring.threads.virtual.enabled:false}")
+  private boolean virtualThreadsEnabled;
+
+  @Bean(name = USER_REGISTERED_EXECUTOR)
+  public TaskExecutor userRegisteredExecutor() {
+    return buildExecutor("user-registered");
+  }
+
+  @Bean(name = FORGOT_PASSWORD_EXECUTOR)
+  public TaskExecutor forgotPasswordExecutor() {
+    return buildExecutor("forgot-password");
+  }
+
+  @Bean(name = RESET_PASSWORD_EXECUTOR)
+  public TaskExecutor resetPasswordExecutor() {
+    return buildExecutor("reset-password");
+  }
+
+  /**
+   * Fallback executor for {@code @Async} methods that do not name an executor. Bounded like the
+   * others so unqualified listeners cannot reintroduce an unbounded queue.
+   *
+   * @return the default async executor
+   */
+  @Bean(name = "taskExecutor")
+  public TaskExecutor defaultAsyncExecutor() {
+    return buildExecutor("default");
+  }
+
+  @Override
+  public Executor getAsyncExecutor() {
+    return defaultAsyncExecutor();
+  }
+
+  @Override
+  public AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() {
+    return (ex, method, params) ->
+        log.error("Async method {} failed: {}", method.getName(), ex.getMessage(), ex);
+  }
+
+  private TaskExecutor buildExecutor(String name) {
+    AsyncExecutorProperties.Pool pool = properties.forName(name);
+    if (pool.isVirtualThreads() || virtualThreadsEnabled) {
+      return buildVirtualExecutor(name, pool);
+    }
+
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setThreadNamePrefix("async-" + name + "-");
+    executor.setCorePoolSize(pool.getCoreSize());
+    executor.setMaxPoolSize(pool.getMaxSize());
+    executor.setQueueCapacity(pool.getQueueCapacity());
+    executor.setKeepAliveSeconds((int) pool.getKeepAlive().toSeconds());
+    executor.setRejectedExecutionHandler(rejectionHandler(name, pool.getRejectionPolicy()));
+    executor.setWaitForTasksToCompleteOnShutdown(true);
+    executor.setAwaitTerminationSeconds(30);
+    log.info(
+        "Async executor '{}': core={}, max={}, queue={}, policy={}",
+        name,
+        pool.getCoreSize(),
+        pool.getMaxSize(),
+        pool.getQueueCapacity(),
+        pool.getRejectionPolicy());
+    return executor;
+  }
+
+  /**
+   * Builds a virtual-thread executor. There is no queue: once {@code max-size} tasks are running,
+   * further submissions block the publisher until a slot frees up, which is the backpressure.
+   */
+  private TaskExecutor buildVirtualExecutor(String name, AsyncExecutorProperties.Pool pool) {
+    SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("async-" + name + "-vt-");
+    executor.setVirtualThreads(true);
+    executor.setConcurrencyLimit(pool.getMaxSize());
+
+    AtomicInteger active = new AtomicInteger();
+    executor.setTaskDecorator(
+        task ->
+            () -> {
+              active.incrementAndGet();
+              try {
+                task.run();
+              } finally {
+                active.decrementAndGet();
+              }
+            });
+    meterRegistry.ifAvailable(
+        registry ->
+            Gauge.builder("async.executor.virtual.active", active, AtomicInteger::get)
+                .tag("name", name)
+                .register(registry));
+
+    log.info("Async executor '{}': virtual threads, concurrency={}", name, pool.getMaxSize());
+    return executor;
+  }
+
+  private RejectedExecutionHandler rejectionHandler(
+      String name, AsyncExecutorProperties.RejectionPolicy policy) {
+    RejectedExecutionHandler delegate =
+        switch (policy) {
+          case CALLER_RUNS -> new ThreadPoolExecutor.CallerRunsPolicy();
+          case DISCARD -> new ThreadPoolExecutor.DiscardPolicy();
+          case ABORT -> new ThreadPoolExecutor.AbortPolicy();
+        };
+
+    return (task, executor) -> {
+      log.warn(
+          "Async executor '{}' saturated (active={}, queued={}), applying {}",
+          name,
+          executor.getActiveCount(),
+          executor.getQueue().size(),
+          policy);
+      meterRegistry.ifAvailable(
+          registry ->
+              registry
+                  .counter("async.executor.rejected", "name", name, "policy", policy.name())
+                  .increment());
+      delegate.rejectedExecution(task, executor);
+    };
+  }
+}
@@ -0,0 +1,71 @@
+package com.huseynovvusal.springblogapi.config;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for the named {@code @Async} executors. Each entry under {@code
+ * async.executors} describes one bounded pool; executors that are not configured fall back to the
+ * defaults declared on {@link Pool}.
+ */
+@Data
+@ConfigurationProperties(prefix = "async")
+public class AsyncExecutorProperties {
+
+  /** Executor settings keyed by executor name (e.g. "user-registered", "forgot-password"). */
+  private Map<String, Pool> executors = new LinkedHashMap<>();
+
+  /**
+   * Returns the settings for the given executor, or the defaults if it is not configured.
+   *
+   * @param name the executor name as used in the configuration
+   * @return the pool settings, never null
+   */
+  public Pool forName(String name) {
+    return executors.getOrDefault(name, new Pool());
+  }
+
+  /** Settings for a single bounded executor. */
+  @Data
+  public static class Pool {
+
+    /** Number of threads kept alive even when idle. */
+    private int coreSize = 2;
+
+    /**
+     * Maximum number of threads. For virtual-thread executors this is the maximum number of
+     * concurrently running tasks.
+     */
+    private int maxSize = 4;
+
+    /** Maximum number of queued tasks before the rejection policy applies. */
+    private int queueCapacity = 100;
+
+    /** How long threads above the core size may stay idle before being released. */
+    private Duration keepAlive = Duration.ofSeconds(60);
+
+    /** What to do with a task when both the pool and its queue are full. */
+    private RejectionPolicy rejectionPolicy = RejectionPolicy.CALLER_RUNS;
+
+    /**
+     * Runs each task on its own virtual thread instead of a pooled platform thread. Intended for
+     * I/O-bound listeners such as email delivery; concurrency is still capped by {@code max-size}.
+     */
+    private boolean virtualThreads = false;
+  }
+
+  /** Behaviour applied when an executor is saturated. */
+  public enum RejectionPolicy {
+    /** Runs the task on the publishing thread, slowing the producer down. */
+    CALLER_RUNS,
+
+    /** Drops the task and records it in the rejection metric. */
+    DISCARD,
+
+    /** Throws a {@link java.util.concurrent.RejectedExecutionException} to the publisher. */
+    ABORT
+  }
+}
@@ -0,0 +1,21 @@
+package com.huseynovvusal.springblogapi.config;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Jackson tuning. Spring Boot registers every {@link Module} bean with the application's {@code
+ * ObjectMapper}. The hottest DTOs have hand-written serializers in {@code ResponseDtoSerializers};
+ * Blackbird speeds up the remaining bean serialization by replacing reflective getter calls with
+ * generated lambdas.
+ */
+@Configuration
+public class JacksonConfig {
+
+  @Bean
+  public Module blackbirdModule() {
+    return new BlackbirdModule();
+  }
+}
@@ -0,0 +1,151 @@
+package com.huseynovvusal.springblogapi.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.util.StringUtils;
+
+/**
+ * Routes read-only transactions to a read replica while everything else uses the primary. Enabled
+ * with {@code blog.datasource.replica.enabled}; otherwise Spring Boot's single data source is used.
+ *
+ * <p>The application's data source is a {@link LazyConnectionDataSourceProxy}: it hands out a
+ * connection handle immediately but only fetches a physical connection on the first statement, by
+ * which point {@code @Transactional(readOnly = true)} has marked the handle read-only. Read-only
+ * handles are served by the replica pool and all others by the primary pool. Spring Data repository
+ * methods run in read-only transactions by default, so reads outside a service transaction go to
+ * the replica too.
+ *
+ * <p>Whenever {@link ReplicaLagMonitor} reports the replica as unreachable or lagging, read-only
+ * handles are served by the primary as well.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(prefix = "blog.datasource.replica", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(ReplicaDataSourceProperties.class)
+public class ReplicaDataSourceConfig {
+
+  /**
+   * Pool of connections to the primary, configured like Spring Boot's default data source.
+   *
+   * @param properties the {@code spring.datasource} settings
+   * @return the primary pool
+   */
+  @Bean
+  @ConfigurationProperties("spring.datasource.hikari")
+  public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+    HikariDataSource dataSource =
+        properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    dataSource.setPoolName("primary");
+    return dataSource;
+  }
+
+  /**
+   * Pool of read-only connections to the replica. Credentials default to the primary's.
+   *
+   * @param primary the {@code spring.datasource} settings
+   * @param replica the replica settings
+   * @return the replica pool
+   */
+  @Bean
+  @ConfigurationProperties("blog.datasource.replica.hikari")
+  public HikariDataSource replicaDataSource(
+      DataSourceProperties primary, ReplicaDataSourceProperties replica) {
+    HikariDataSource dataSource =
+        DataSourceBuilder.create()
+            .type(HikariDataSource.class)
+            .driverClassName(primary.determineDriverClassName())
+            .url(replica.getUrl())
+            .username(
+                StringUtils.hasText(replica.getUsername())
+                    ? replica.getUsername()
+                    : primary.determineUsername())
+            .password(
+                StringUtils.hasText(replica.getPassword())
+                    ? replica.getPassword()
+                    : primary.determinePassword())
+            .build();
+    dataSource.setPoolName("replica");
+    dataSource.setReadOnly(true);
+    return dataSource;
+  }
+
+  @Bean
+  public ReplicaLagMonitor replicaLagMonitor(
+      @Qualifier("replicaDataSource") DataSource replicaDataSource,
+      ReplicaDataSourceProperties properties,
+      ObjectProvider<MeterRegistry> meterRegistry) {
+    ReplicaLagMonitor monitor =
+        new ReplicaLagMonitor(new JdbcTemplate(replicaDataSource), properties.getMaxLag());
+    meterRegistry.ifAvailable(
+        registry -> {
+          Gauge.builder("datasource.replica.lag", monitor, ReplicaLagMonitor::getLagSeconds)
+              .baseUnit("seconds")
+              .register(registry);
+          Gauge.builder(
+                  "datasource.replica.usable", monitor, m -> m.isReplicaUsable() ? 1.0 : 0.0)
+              .register(registry);
+        });
+    return monitor;
+  }
+
+  /**
+   * The data source used by JPA and {@link JdbcTemplate}.
+   *
+   * @param primaryDataSource the primary pool
+   * @param replicaDataSource the replica pool
+   * @param monitor decides whether the replica may be used
+   * @return the routing data source
+   */
+  @Bean
+  @Primary
+  public DataSource dataSource(
+      @Qualifier("primaryDataSource") DataSource primaryDataSource,
+      @Qualifier("replicaDataSource") DataSource replicaDataSource,
+      ReplicaLagMonitor monitor) {
+    log.info("Routing read-only transactions to the replica data source");
+    return routingDataSource(primaryDataSource, replicaDataSource, monitor);
+  }
+
+  /**
+   * Builds a data source that serves read-only connections from the replica while the monitor
+   * considers it usable, and everything else from the primary.
+   */
+  static DataSource routingDataSource(
+      DataSource primary, DataSource replica, ReplicaLagMonitor monitor) {
+    AbstractRoutingDataSource readOnly =
+        new AbstractRoutingDataSource() {
+          @Override
+          protected Object determineCurrentLookupKey() {
+            return monitor.isReplicaUsable() ? Route.REPLICA : Route.PRIMARY;
+          }
+        };
+    readOnly.setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+    readOnly.afterPropertiesSet();
+
+    LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(primary);
+    proxy.setReadOnlyDataSource(readOnly);
+    return proxy;
+  }
+
+  private enum Route {
+    PRIMARY,
+    REPLICA
+  }
+}
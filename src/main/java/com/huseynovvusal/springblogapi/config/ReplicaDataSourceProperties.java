@@ -0,0 +1,29 @@
+package com.huseynovvusal.springblogapi.config;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Connection settings of the read replica used by {@link ReplicaDataSourceConfig}. Pool settings
+ * are bound separately from {@code blog.datasource.replica.hikari}.
+ */
+@Data
+@ConfigurationProperties(prefix = "blog.datasource.replica")
+public class ReplicaDataSourceProperties {
+
+  /** Routes read-only transactions to the replica. */
+  private boolean enabled = false;
+
+  /** JDBC URL of the replica. */
+  private String url;
+
+  /** Login username of the replica; defaults to the primary's. */
+  private String username;
+
+  /** Login password of the replica; defaults to the primary's. */
+  private String password;
+
+  /** Replication lag above which reads fall back to the primary. */
+  private Duration maxLag = Duration.ofSeconds(5);
+}
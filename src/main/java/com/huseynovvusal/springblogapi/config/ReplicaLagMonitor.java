@@ -0,0 +1,86 @@
+package com.huseynovvusal.springblogapi.config;
+
+import java.time.Duration;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Periodically measures how far the read replica is behind the primary. While the lag exceeds
+ * {@code blog.datasource.replica.max-lag}, or the replica cannot be queried, read-only transactions
+ * are routed to the primary instead.
+ *
+ * <p>A replica that has replayed everything it received reports no lag even if its last replayed
+ * transaction is old, so an idle primary does not make the replica look stale. This only holds
+ * while its WAL receiver is streaming: a standby disconnected from the primary has also replayed
+ * everything it received, so it reports no lag value and is not used. Reading the receiver status
+ * requires the replica user to have {@code pg_read_all_stats} (e.g. through {@code pg_monitor}). A
+ * database that is not in recovery, such as a second standalone instance used for local testing,
+ * counts as current. Until the first check completes, reads use the primary.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+  private static final String LAG_SQL =
+      "select case"
+          + " when not pg_is_in_recovery() then 0"
+          + " when not exists (select 1 from pg_stat_wal_receiver where status = 'streaming')"
+          + " then null"
+          + " when pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() then 0"
+          + " else extract(epoch from now() - pg_last_xact_replay_timestamp())"
+          + " end";
+
+  private final JdbcTemplate replicaJdbcTemplate;
+  private final Duration maxLag;
+
+  private volatile boolean usable = false;
+  private volatile double lagSeconds = Double.NaN;
+
+  public ReplicaLagMonitor(JdbcTemplate replicaJdbcTemplate, Duration maxLag) {
+    this.replicaJdbcTemplate = replicaJdbcTemplate;
+    this.maxLag = maxLag;
+  }
+
+  /**
+   * Whether read-only transactions may currently use the replica.
+   *
+   * @return true if the last check found the replica reachable and within the lag limit
+   */
+  public boolean isReplicaUsable() {
+    return usable;
+  }
+
+  /**
+   * Returns the replication lag measured by the last check.
+   *
+   * @return the lag in seconds, or NaN if the replica could not be queried
+   */
+  public double getLagSeconds() {
+    return lagSeconds;
+  }
+
+  /** Measures the replica's lag and decides whether reads may use it. */
+  @Scheduled(
+      fixedDelayString = "${blog.datasource.replica.lag-check-interval-ms:5000}",
+      initialDelay = 0)
+  public void check() {
+    Double lag;
+    try {
+      lag = replicaJdbcTemplate.queryForObject(LAG_SQL, Double.class);
+    } catch (DataAccessException e) {
+      log.debug("Replica lag check failed", e);
+      lag = null;
+    }
+    lagSeconds = lag != null ? lag : Double.NaN;
+    boolean nowUsable = lag != null && lag * 1000 <= maxLag.toMillis();
+    if (nowUsable != usable) {
+      if (nowUsable) {
+        log.info("Routing read-only transactions to the replica (lag {}s)", lag);
+      } else {
+        log.warn("Replica unavailable or lagging (lag {}s), reading from the primary", lag);
+      }
+    }
+    usable = nowUsable;
+  }
+}
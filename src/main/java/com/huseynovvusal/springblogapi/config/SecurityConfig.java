@@ -57,7 +57,9 @@ public class SecurityConfig {
                     .permitAll()
                     .requestMatchers("/swagger-ui/**", "/api-docs/**")
                     .permitAll()
-                    .requestMatchers("/admin/**")
+                    .requestMatchers("/actuator/health")
+                    .permitAll()
+                    .requestMatchers("/admin/**", "/actuator/**")
                     .hasRole("ADMIN")
                     .anyRequest()
                     .authenticated())
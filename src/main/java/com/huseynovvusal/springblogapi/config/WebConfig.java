@@ -0,0 +1,53 @@
+package com.huseynovvusal.springblogapi.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.huseynovvusal.springblogapi.converter.PageNdjsonHttpMessageConverter;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Web MVC configuration: registers the additional response formats offered by list endpoints.
+ *
+ * <p>Besides NDJSON streaming, internal consumers can ask for CBOR ({@code application/cbor}) or
+ * Smile ({@code application/x-jackson-smile}). Spring MVC registers converters for both as soon as
+ * the data formats are on the classpath, but with plain mappers; here they are replaced by mappers
+ * built from Spring Boot's {@link Jackson2ObjectMapperBuilder}, so binary responses share the JSON
+ * mapper's modules, serializers and date handling.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class WebConfig implements WebMvcConfigurer {
+
+  private final ObjectMapper objectMapper;
+  private final Jackson2ObjectMapperBuilder objectMapperBuilder;
+
+  @Value("${api.streaming.flush-every:8}")
+  private int streamingFlushEvery;
+
+  /**
+   * Appends the NDJSON and binary converters after the defaults, so {@code application/json} stays
+   * the preferred format for clients that accept anything.
+   */
+  @Override
+  public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+    ObjectMapper cborMapper = objectMapperBuilder.factory(new CBORFactory()).build();
+    ObjectMapper smileMapper = objectMapperBuilder.factory(new SmileFactory()).build();
+    converters.removeIf(
+        converter ->
+            converter instanceof MappingJackson2CborHttpMessageConverter
+                || converter instanceof MappingJackson2SmileHttpMessageConverter);
+
+    converters.add(new PageNdjsonHttpMessageConverter(objectMapper, streamingFlushEvery));
+    converters.add(new MappingJackson2SmileHttpMessageConverter(smileMapper));
+    converters.add(new MappingJackson2CborHttpMessageConverter(cborMapper));
+  }
+}
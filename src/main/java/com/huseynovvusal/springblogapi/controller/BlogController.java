@@ -1,12 +1,26 @@
 package com.huseynovvusal.springblogapi.controller;
 
 import com.huseynovvusal.springblogapi.dto.CreateBlog;
+import com.huseynovvusal.springblogapi.dto.UpdateTagsRequest;
+import com.huseynovvusal.springblogapi.dto.response.AuthorStatsDto;
 import com.huseynovvusal.springblogapi.dto.response.BlogResponseDto;
+import com.huseynovvusal.springblogapi.dto.response.BlogViewerStateDto;
+import com.huseynovvusal.springblogapi.dto.response.PageResponse;
+import com.huseynovvusal.springblogapi.service.BlogEtags;
+import com.huseynovvusal.springblogapi.service.BlogRevision;
 import com.huseynovvusal.springblogapi.service.BlogService;
+import com.huseynovvusal.springblogapi.service.ViewerStateService;
 import io.github.resilience4j.ratelimiter.annotation.RateLimiter;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
 import java.time.Instant;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
@@ -16,17 +30,27 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 /**
  * Controller for managing blog-related operations. Supports CRUD operations and filtering based on
  * tags, author, and creation date.
+ *
+ * <p>Single posts and the feed and author listings support conditional GET: they send a weak ETag
+ * (and Last-Modified for single posts) and answer a matching {@code If-None-Match} / {@code
+ * If-Modified-Since} with 304 Not Modified. Listing tags are computed from the cached page that is
+ * sent. Filter and search results are built from specifications without a version query, so they
+ * are always sent in full.
  */
 @RestController
 @RequestMapping("/blogs")
@@ -36,6 +60,7 @@ public class BlogController {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(BlogController.class);
   private final BlogService blogService;
+  private final ViewerStateService viewerStateService;
 
   /**
    * Retrieves a paginated list of all blogs, sorted by creation date descending.
@@ -44,27 +69,67 @@ public class BlogController {
    * @return paginated list of blog responses
    */
   @GetMapping
-  public Page<BlogResponseDto> getAllBlogs(
+  public PageResponse<BlogResponseDto> getAllBlogs(
       @PageableDefault(
               size = 20,
               sort = "createdAt",
               direction = org.springframework.data.domain.Sort.Direction.DESC)
-          Pageable pageable) {
+          Pageable pageable,
+      WebRequest request) {
     LOGGER.info("Fetching all blogs with pagination: {}", pageable);
-    return blogService.getAllBlogs(pageable);
+    Page<BlogResponseDto> page = blogService.getAllBlogs(pageable);
+    return request.checkNotModified(BlogEtags.forPage(page)) ? null : PageResponse.of(page);
   }
 
   /**
-   * Retrieves a blog by its unique ID.
+   * Retrieves a blog by its unique ID. The body is served from the rendered-blog cache, so it is
+   * returned as pre-serialized JSON.
    *
    * @param id the blog ID
-   * @return the blog response
+   * @return the blog response as JSON
    */
   @GetMapping("/{id}")
   @RateLimiter(name = "default")
-  public BlogResponseDto getById(@PathVariable Long id) {
+  @ApiResponse(
+      responseCode = "200",
+      content = @Content(schema = @Schema(implementation = BlogResponseDto.class)))
+  public ResponseEntity<byte[]> getById(@PathVariable Long id, WebRequest request) {
     LOGGER.info("Fetching blog with ID: {}", id);
-    return blogService.getById(id);
+    BlogRevision revision = blogService.recordView(id);
+    if (request.checkNotModified(revision.etag(), revision.lastModified())) {
+      return null;
+    }
+    return ResponseEntity.ok()
+        .contentType(MediaType.APPLICATION_JSON)
+        .body(blogService.render(revision));
+  }
+
+  /**
+   * Returns the trending blogs: a ranking of recent likes and views with older activity decayed,
+   * precomputed in memory and refreshed every minute.
+   *
+   * @param limit maximum number of blogs (default 20, at most 100)
+   * @return trending blogs, highest score first
+   */
+  @GetMapping("/trending")
+  public List<BlogResponseDto> getTrending(
+      @RequestParam(defaultValue = "20") @Min(1) @Max(100) int limit) {
+    LOGGER.info("Fetching {} trending blogs", limit);
+    return blogService.getTrending(limit);
+  }
+
+  /**
+   * Returns the current user's like and bookmark state for the blogs of a feed page, replacing the
+   * per-post {@code /likes/check} and {@code /api/bookmarks/check} calls.
+   *
+   * @param ids the IDs of the blogs on the page, at most 100
+   * @return one like/bookmark state entry per distinct blog ID, in request order
+   */
+  @GetMapping("/viewer-state")
+  public List<BlogViewerStateDto> getViewerState(
+      @RequestParam @NotEmpty @Size(max = 100) List<Long> ids) {
+    LOGGER.info("Fetching viewer state for {} blogs", ids.size());
+    return viewerStateService.getStates(ids);
   }
 
   /**
@@ -75,15 +140,30 @@ public class BlogController {
    * @return paginated list of blog responses
    */
   @GetMapping("/author/{username}")
-  public Page<BlogResponseDto> getByAuthor(
+  public PageResponse<BlogResponseDto> getByAuthor(
       @PathVariable String username,
       @PageableDefault(
               size = 20,
               sort = "createdAt",
               direction = org.springframework.data.domain.Sort.Direction.DESC)
-          Pageable pageable) {
+          Pageable pageable,
+      WebRequest request) {
     LOGGER.info("Fetching blogs by author: {} with pagination: {}", username, pageable);
-    return blogService.getByAuthor(username, pageable);
+    Page<BlogResponseDto> page = blogService.getByAuthor(username, pageable);
+    return request.checkNotModified(BlogEtags.forPage(page)) ? null : PageResponse.of(page);
+  }
+
+  /**
+   * Retrieves an author's post count, total views and total likes from the precomputed statistics
+   * row, without aggregating over the author's posts.
+   *
+   * @param username the author's username
+   * @return the author's statistics
+   */
+  @GetMapping("/author/{username}/stats")
+  public AuthorStatsDto getAuthorStats(@PathVariable String username) {
+    LOGGER.info("Fetching statistics of author: {}", username);
+    return blogService.getAuthorStats(username);
   }
 
   /**
@@ -98,6 +178,18 @@ public class BlogController {
     return blogService.create(body);
   }
 
+  /**
+   * Replaces the tags of a blog post. Only the author may change them.
+   *
+   * @param id the blog ID
+   * @param body the new tag names
+   */
+  @PutMapping("/{id}/tags")
+  public void updateTags(@PathVariable Long id, @Valid @RequestBody UpdateTagsRequest body) {
+    LOGGER.info("Updating tags of blog ID: {}", id);
+    blogService.updateTags(id, body.getTags());
+  }
+
   /**
    * Filters blogs based on tags, author, creation date range, search query, and publication status.
    *
@@ -107,11 +199,12 @@ public class BlogController {
    * @param createdTo end of creation date range
    * @param q search query
    * @param onlyPublished whether to include only published blogs
+   * @param count whether to count the total; false skips the count query and omits the totals
    * @param pageable pagination information
    * @return paginated list of filtered blog responses
    */
   @GetMapping("/filter")
-  public Page<BlogResponseDto> filter(
+  public PageResponse<BlogResponseDto> filter(
       @RequestParam(required = false) List<String> tags,
       @RequestParam(required = false) String author,
       @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
@@ -120,6 +213,7 @@ public class BlogController {
           Instant createdTo,
       @RequestParam(required = false) String q,
       @RequestParam(required = false, defaultValue = "false") Boolean onlyPublished,
+      @RequestParam(defaultValue = "true") boolean count,
       @PageableDefault(size = 20) Pageable pageable) {
     LOGGER.info(
         "Filtering blogs with tags: {}, author: {}, createdFrom: {}, createdTo: {}, query: {}, onlyPublished: {}",
@@ -129,22 +223,27 @@ public class BlogController {
         createdTo,
         q,
         onlyPublished);
-    return blogService.filter(tags, author, createdFrom, createdTo, q, onlyPublished, pageable);
+    return PageResponse.of(
+        blogService.filter(
+            tags, author, createdFrom, createdTo, q, onlyPublished, count, pageable));
   }
 
   /**
    * Searches blogs by keyword in title, content, or tags.
    *
    * @param q search keyword
+   * @param count whether to count the total; false skips the count query and omits the totals
    * @param pageable pagination information
    * @return paginated list of matching blogs
    */
   @Operation(summary = "Search blog posts", description = "Search blogs by title, content or tags")
   @GetMapping("/search")
-  public Page<BlogResponseDto> search(
-      @RequestParam String q, @PageableDefault(size = 20) Pageable pageable) {
+  public PageResponse<BlogResponseDto> search(
+      @RequestParam String q,
+      @RequestParam(defaultValue = "true") boolean count,
+      @PageableDefault(size = 20) Pageable pageable) {
 
     LOGGER.info("Searching blogs with keyword: {}", q);
-    return blogService.search(q, pageable);
+    return PageResponse.of(blogService.search(q, count, pageable));
   }
 }
@@ -1,18 +1,22 @@
 package com.huseynovvusal.springblogapi.controller;
 
+import com.huseynovvusal.springblogapi.dto.BatchBlogIdsRequest;
+import com.huseynovvusal.springblogapi.dto.response.BatchResultDto;
 import com.huseynovvusal.springblogapi.dto.response.BlogResponseDto;
+import com.huseynovvusal.springblogapi.dto.response.PageResponse;
 import com.huseynovvusal.springblogapi.exception.BlogNotFoundException;
 import com.huseynovvusal.springblogapi.service.BookmarkService;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -34,13 +38,13 @@ public class BookmarkController {
    * Adds a bookmark for the specified blog.
    *
    * @param blogId the ID of the blog to bookmark
-   * @return HTTP 204 No Content on success
+   * @return true if the bookmark was added, false if it already existed
    * @throws BlogNotFoundException
    */
   @PostMapping("/{blogId}")
-  public void add(@PathVariable Long blogId) throws BlogNotFoundException {
+  public boolean add(@PathVariable Long blogId) throws BlogNotFoundException {
     LOGGER.info("Adding bookmark for blog ID: {}", blogId);
-    bookmarkService.addBookmark(blogId);
+    return bookmarkService.addBookmark(blogId);
   }
 
   /**
@@ -55,6 +59,30 @@ public class BookmarkController {
     bookmarkService.removeBookmark(blogId);
   }
 
+  /**
+   * Bookmarks several blogs at once.
+   *
+   * @param body the IDs of the blogs to bookmark
+   * @return which blogs were bookmarked, were already bookmarked, or do not exist
+   */
+  @PostMapping("/batch")
+  public BatchResultDto addBatch(@Valid @RequestBody BatchBlogIdsRequest body) {
+    LOGGER.info("Adding bookmarks for {} blogs", body.getBlogIds().size());
+    return bookmarkService.addBookmarks(body.getBlogIds());
+  }
+
+  /**
+   * Removes bookmarks of several blogs at once.
+   *
+   * @param body the IDs of the blogs to unbookmark
+   * @return which blogs were unbookmarked and which were not bookmarked
+   */
+  @PostMapping("/batch/remove")
+  public BatchResultDto removeBatch(@Valid @RequestBody BatchBlogIdsRequest body) {
+    LOGGER.info("Removing bookmarks for {} blogs", body.getBlogIds().size());
+    return bookmarkService.removeBookmarks(body.getBlogIds());
+  }
+
   /**
    * Checks if the specified blog is bookmarked by the current user.
    *
@@ -92,9 +120,9 @@ public class BookmarkController {
    * @return paginated list of bookmarked blogs
    */
   @GetMapping
-  public Page<BlogResponseDto> list(
+  public PageResponse<BlogResponseDto> list(
       @RequestParam(defaultValue = "0") int page, @RequestParam(defaultValue = "20") int size) {
     LOGGER.info("Listing bookmarks - page: {}, size: {}", page, size);
-    return bookmarkService.listMyBookmarks(PageRequest.of(page, size));
+    return PageResponse.of(bookmarkService.listMyBookmarks(PageRequest.of(page, size)));
   }
 }
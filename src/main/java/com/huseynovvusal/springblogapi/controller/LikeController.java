@@ -1,9 +1,12 @@
 package com.huseynovvusal.springblogapi.controller;
 
+import com.huseynovvusal.springblogapi.dto.BatchBlogIdsRequest;
+import com.huseynovvusal.springblogapi.dto.response.BatchResultDto;
 import com.huseynovvusal.springblogapi.dto.response.LikeResponseDto;
 import com.huseynovvusal.springblogapi.exception.BlogNotFoundException;
 import com.huseynovvusal.springblogapi.service.LikeService;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -12,6 +15,7 @@ import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -36,12 +40,13 @@ public class LikeController {
    * effect.
    *
    * @param blogId the ID of the blog to like
+   * @return true if the like was added, false if it already existed
    * @throws BlogNotFoundException if the blog does not exist
    */
   @PostMapping("/{blogId}")
-  public void add(@PathVariable Long blogId) throws BlogNotFoundException {
+  public boolean add(@PathVariable Long blogId) throws BlogNotFoundException {
     LOGGER.info("Adding like for blog ID: {}", blogId);
-    likeService.addLike(blogId);
+    return likeService.addLike(blogId);
   }
 
   /**
@@ -55,6 +60,31 @@ public class LikeController {
     likeService.removeLike(blogId);
   }
 
+  /**
+   * Likes several blogs at once, e.g. when a mobile client syncs likes queued while offline.
+   * Already-liked and unknown blogs are reported rather than rejected.
+   *
+   * @param body the IDs of the blogs to like
+   * @return which blogs were liked, were already liked, or do not exist
+   */
+  @PostMapping("/batch")
+  public BatchResultDto addBatch(@Valid @RequestBody BatchBlogIdsRequest body) {
+    LOGGER.info("Adding likes for {} blogs", body.getBlogIds().size());
+    return likeService.addLikes(body.getBlogIds());
+  }
+
+  /**
+   * Unlikes several blogs at once.
+   *
+   * @param body the IDs of the blogs to unlike
+   * @return which blogs were unliked and which were not liked
+   */
+  @PostMapping("/batch/remove")
+  public BatchResultDto removeBatch(@Valid @RequestBody BatchBlogIdsRequest body) {
+    LOGGER.info("Removing likes for {} blogs", body.getBlogIds().size());
+    return likeService.removeLikes(body.getBlogIds());
+  }
+
   /**
    * Toggles like status for the current user on the specified blog. Returns true if now liked,
    * false if unliked.
@@ -0,0 +1,61 @@
+package com.huseynovvusal.springblogapi.controller;
+
+import com.huseynovvusal.springblogapi.dto.response.TagCountDto;
+import com.huseynovvusal.springblogapi.service.AutocompleteService;
+import com.huseynovvusal.springblogapi.service.TagStatsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/** Controller for tag navigation and typeahead. */
+@RestController
+@RequestMapping("/tags")
+@RequiredArgsConstructor
+@SecurityRequirement(name = "bearerAuth")
+public class TagController {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(TagController.class);
+
+  private final TagStatsService tagStatsService;
+  private final AutocompleteService autocompleteService;
+
+  /**
+   * Returns the most used tags with their post counts, served from memory.
+   *
+   * @param limit maximum number of tags (default 50, at most 500)
+   * @return tags with their post counts, most used first
+   */
+  @GetMapping
+  @Operation(summary = "Get the most used tags with post counts")
+  public List<TagCountDto> getTagCounts(
+      @RequestParam(defaultValue = "50") @Min(1) @Max(500) int limit) {
+    LOGGER.info("Fetching {} most used tags", limit);
+    return tagStatsService.top(limit);
+  }
+
+  /**
+   * Suggests tag names starting with the typed prefix, for typeahead.
+   *
+   * @param prefix the typed prefix, matched case-insensitively
+   * @param limit maximum number of suggestions (default 10, at most 20)
+   * @return tag names, most used first
+   */
+  @GetMapping("/suggest")
+  @Operation(summary = "Suggest tag names by prefix")
+  public List<String> suggest(
+      @RequestParam @NotBlank String prefix,
+      @RequestParam(defaultValue = "10") @Min(1) @Max(20) int limit) {
+    LOGGER.debug("Suggesting tags for prefix: {}", prefix);
+    return autocompleteService.suggestTags(prefix, limit);
+  }
+}
@@ -1,14 +1,20 @@
 package com.huseynovvusal.springblogapi.controller;
 
 import com.huseynovvusal.springblogapi.dto.response.UserResponseDto;
+import com.huseynovvusal.springblogapi.service.AutocompleteService;
 import com.huseynovvusal.springblogapi.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -20,6 +26,7 @@ public class UserController {
   private static final Logger LOGGER = LoggerFactory.getLogger(UserController.class);
 
   private final UserService userService;
+  private final AutocompleteService autocompleteService;
 
   /**
    * Retrieves the profile of the currently authenticated user.
@@ -32,4 +39,20 @@ public class UserController {
     LOGGER.info("Fetching profile for authenticated user");
     return userService.getCurrentUserProfile();
   }
+
+  /**
+   * Suggests usernames starting with the typed prefix, for typeahead.
+   *
+   * @param prefix the typed prefix, matched case-insensitively
+   * @param limit maximum number of suggestions (default 10, at most 20)
+   * @return usernames, most prolific authors first
+   */
+  @GetMapping("/suggest")
+  @Operation(summary = "Suggest usernames by prefix")
+  public List<String> suggest(
+      @RequestParam @NotBlank String prefix,
+      @RequestParam(defaultValue = "10") @Min(1) @Max(20) int limit) {
+    LOGGER.debug("Suggesting usernames for prefix: {}", prefix);
+    return autocompleteService.suggestUsernames(prefix, limit);
+  }
 }
@@ -0,0 +1,95 @@
+package com.huseynovvusal.springblogapi.converter;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.huseynovvusal.springblogapi.dto.response.PageResponse;
+import java.io.IOException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+/**
+ * Writes a {@link PageResponse} as newline-delimited JSON ({@code application/x-ndjson}): one
+ * element per line, serialized straight onto the response stream and flushed every few elements, so
+ * large pages reach the client incrementally instead of being buffered as a whole. Page metadata
+ * travels in {@code X-Total-Count}, {@code X-Total-Pages}, {@code X-Page-Number} and {@code
+ * X-Page-Size} headers, plus {@code X-Total-Approximate} when the totals are not exact.
+ *
+ * <p>Only selected when the client asks for it via {@code Accept}; regular JSON remains the
+ * default.
+ */
+public class PageNdjsonHttpMessageConverter extends AbstractHttpMessageConverter<PageResponse<?>> {
+
+  private final ObjectMapper objectMapper;
+  private final ObjectWriter elementWriter;
+  private final int flushEvery;
+
+  /**
+   * Creates the converter.
+   *
+   * @param objectMapper the application's object mapper, used for each element
+   * @param flushEvery number of elements written between flushes to the client
+   */
+  public PageNdjsonHttpMessageConverter(ObjectMapper objectMapper, int flushEvery) {
+    super(MediaType.APPLICATION_NDJSON);
+    this.objectMapper = objectMapper;
+    this.elementWriter =
+        objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    this.flushEvery = Math.max(1, flushEvery);
+  }
+
+  @Override
+  protected boolean supports(Class<?> clazz) {
+    return PageResponse.class.isAssignableFrom(clazz);
+  }
+
+  @Override
+  public boolean canRead(Class<?> clazz, MediaType mediaType) {
+    return false;
+  }
+
+  @Override
+  protected PageResponse<?> readInternal(
+      Class<? extends PageResponse<?>> clazz, HttpInputMessage inputMessage) {
+    throw new HttpMessageNotReadableException(
+        "Reading NDJSON pages is not supported", inputMessage);
+  }
+
+  @Override
+  protected void writeInternal(PageResponse<?> page, HttpOutputMessage outputMessage)
+      throws IOException {
+    // Headers must be set before the body stream is opened
+    HttpHeaders headers = outputMessage.getHeaders();
+    if (page.getTotalElements() != null) {
+      headers.set("X-Total-Count", String.valueOf(page.getTotalElements()));
+      headers.set("X-Total-Pages", String.valueOf(page.getTotalPages()));
+      if (page.isTotalApproximate()) {
+        headers.set("X-Total-Approximate", "true");
+      }
+    }
+    headers.set("X-Has-Next", String.valueOf(page.isHasNext()));
+    headers.set("X-Page-Number", String.valueOf(page.getPage()));
+    headers.set("X-Page-Size", String.valueOf(page.getSize()));
+
+    JsonGenerator generator =
+        objectMapper.getFactory().createGenerator(outputMessage.getBody(), JsonEncoding.UTF8);
+    generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    generator.setRootValueSeparator(null);
+    try (generator) {
+      int written = 0;
+      for (Object element : page.getContent()) {
+        elementWriter.writeValue(generator, element);
+        generator.writeRaw('\n');
+        if (++written % flushEvery == 0) {
+          generator.flush();
+        }
+      }
+    }
+  }
+}
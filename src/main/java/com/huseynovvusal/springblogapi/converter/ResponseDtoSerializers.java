@@ -0,0 +1,118 @@
+package com.huseynovvusal.springblogapi.converter;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.huseynovvusal.springblogapi.dto.response.BlogResponseDto;
+import com.huseynovvusal.springblogapi.dto.response.UserSummaryDto;
+import java.io.IOException;
+import java.util.Date;
+import org.springframework.boot.jackson.JsonComponent;
+
+/**
+ * Hand-written Jackson serializers for the DTOs present in every list response. Field names are
+ * pre-encoded once and fields are written directly, skipping the reflective bean property lookup.
+ * The produced JSON is the same as default bean serialization.
+ */
+@JsonComponent
+public class ResponseDtoSerializers {
+
+  /**
+   * Serialization attribute that makes {@link BlogResponseDtoSerializer} leave out the {@code
+   * views} and {@code likeCount} counters, so live values can be appended to a cached rendering.
+   */
+  public static final String BLOG_STATIC_PART = "blog.staticPart";
+
+  private static final SerializedString ID = new SerializedString("id");
+  private static final SerializedString TITLE = new SerializedString("title");
+  private static final SerializedString CONTENT = new SerializedString("content");
+  private static final SerializedString CREATED_AT = new SerializedString("createdAt");
+  private static final SerializedString UPDATED_AT = new SerializedString("updatedAt");
+  private static final SerializedString AUTHOR = new SerializedString("author");
+  private static final SerializedString VIEWS = new SerializedString("views");
+  private static final SerializedString LIKE_COUNT = new SerializedString("likeCount");
+  private static final SerializedString USERNAME = new SerializedString("username");
+  private static final SerializedString FIRST_NAME = new SerializedString("firstName");
+  private static final SerializedString LAST_NAME = new SerializedString("lastName");
+
+  /** Serializer for {@link BlogResponseDto}. */
+  public static class BlogResponseDtoSerializer extends StdSerializer<BlogResponseDto> {
+
+    public BlogResponseDtoSerializer() {
+      super(BlogResponseDto.class);
+    }
+
+    @Override
+    public void serialize(BlogResponseDto blog, JsonGenerator gen, SerializerProvider provider)
+        throws IOException {
+      gen.writeStartObject(blog);
+      writeLong(gen, ID, blog.getId());
+      gen.writeFieldName(TITLE);
+      gen.writeString(blog.getTitle());
+      gen.writeFieldName(CONTENT);
+      gen.writeString(blog.getContent());
+      writeDate(gen, provider, CREATED_AT, blog.getCreatedAt());
+      writeDate(gen, provider, UPDATED_AT, blog.getUpdatedAt());
+      gen.writeFieldName(AUTHOR);
+      writeUserSummary(blog.getAuthor(), gen);
+
+      if (!Boolean.TRUE.equals(provider.getAttribute(BLOG_STATIC_PART))) {
+        writeLong(gen, VIEWS, blog.getViews());
+        writeLong(gen, LIKE_COUNT, blog.getLikeCount());
+      }
+      gen.writeEndObject();
+    }
+  }
+
+  /** Serializer for {@link UserSummaryDto}. */
+  public static class UserSummaryDtoSerializer extends StdSerializer<UserSummaryDto> {
+
+    public UserSummaryDtoSerializer() {
+      super(UserSummaryDto.class);
+    }
+
+    @Override
+    public void serialize(UserSummaryDto user, JsonGenerator gen, SerializerProvider provider)
+        throws IOException {
+      writeUserSummary(user, gen);
+    }
+  }
+
+  private static void writeUserSummary(UserSummaryDto user, JsonGenerator gen) throws IOException {
+    if (user == null) {
+      gen.writeNull();
+      return;
+    }
+    gen.writeStartObject(user);
+    writeLong(gen, ID, user.getId());
+    gen.writeFieldName(USERNAME);
+    gen.writeString(user.getUsername());
+    gen.writeFieldName(FIRST_NAME);
+    gen.writeString(user.getFirstName());
+    gen.writeFieldName(LAST_NAME);
+    gen.writeString(user.getLastName());
+    gen.writeEndObject();
+  }
+
+  private static void writeLong(JsonGenerator gen, SerializedString name, Long value)
+      throws IOException {
+    gen.writeFieldName(name);
+    if (value == null) {
+      gen.writeNull();
+    } else {
+      gen.writeNumber(value);
+    }
+  }
+
+  private static void writeDate(
+      JsonGenerator gen, SerializerProvider provider, SerializedString name, Date value)
+      throws IOException {
+    gen.writeFieldName(name);
+    if (value == null) {
+      gen.writeNull();
+    } else {
+      provider.defaultSerializeDateValue(value, gen);
+    }
+  }
+}
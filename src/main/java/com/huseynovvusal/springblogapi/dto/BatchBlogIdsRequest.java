@@ -0,0 +1,24 @@
+package com.huseynovvusal.springblogapi.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for batch like and bookmark operations. Lets clients that queue actions
+ * offline sync them in a single request instead of one request per blog.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BatchBlogIdsRequest {
+
+  /** IDs of the blogs to operate on. Duplicates are ignored. */
+  @NotEmpty(message = "At least one blog ID is required")
+  @Size(max = 100, message = "At most 100 blog IDs can be sent at once")
+  private List<@NotNull Long> blogIds;
+}
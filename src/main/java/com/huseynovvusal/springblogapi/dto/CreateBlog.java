@@ -2,13 +2,14 @@ package com.huseynovvusal.springblogapi.dto;
 
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 /**
- * Data Transfer Object for creating a new blog post. Contains the title and content provided by the
- * user.
+ * Data Transfer Object for creating a new blog post. Contains the title, content and optional tags
+ * provided by the user.
  */
 @Data
 @AllArgsConstructor
@@ -24,4 +25,8 @@ public class CreateBlog {
   @NotBlank(message = "Content is required")
   @Size(max = 50000, message = "Content must not exceed 50,000 characters")
   private String content;
+
+  /** Names of the tags to attach; unknown tags are created. Optional. */
+  @Size(max = 10, message = "At most 10 tags are allowed")
+  private List<@NotBlank(message = "Tag must not be blank") @Size(max = 64) String> tags;
 }
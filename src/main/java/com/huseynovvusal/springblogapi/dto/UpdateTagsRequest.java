@@ -0,0 +1,21 @@
+package com.huseynovvusal.springblogapi.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** Data Transfer Object for replacing the tags of a blog post. */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class UpdateTagsRequest {
+
+  /** Names of the new tags; an empty list removes all tags. Unknown tags are created. */
+  @NotNull(message = "Tags are required")
+  @Size(max = 10, message = "At most 10 tags are allowed")
+  private List<@NotBlank(message = "Tag must not be blank") @Size(max = 64) String> tags;
+}
@@ -0,0 +1,20 @@
+package com.huseynovvusal.springblogapi.dto.response;
+
+import lombok.Value;
+
+/** Data Transfer Object with an author's post count, total views and total likes. */
+@Value
+public class AuthorStatsDto {
+
+  /** Username of the author. */
+  String username;
+
+  /** Number of blog posts written by the author. */
+  long postCount;
+
+  /** Total views across the author's posts. */
+  long totalViews;
+
+  /** Total likes across the author's posts. */
+  long totalLikes;
+}
@@ -0,0 +1,21 @@
+package com.huseynovvusal.springblogapi.dto.response;
+
+import java.util.List;
+import lombok.Value;
+
+/**
+ * Data Transfer Object describing the outcome of a batch like or bookmark operation, so clients can
+ * reconcile their local state without checking each blog individually.
+ */
+@Value
+public class BatchResultDto {
+
+  /** Blogs whose state was changed by this request. */
+  List<Long> changed;
+
+  /** Blogs that were already in the requested state. */
+  List<Long> unchanged;
+
+  /** Requested IDs that do not belong to an existing blog. */
+  List<Long> notFound;
+}
@@ -0,0 +1,20 @@
+package com.huseynovvusal.springblogapi.dto.response;
+
+import lombok.Value;
+
+/**
+ * Data Transfer Object with the current user's like and bookmark state for one blog post. Lets feed
+ * pages render both buttons for all their items with a single request.
+ */
+@Value
+public class BlogViewerStateDto {
+
+  /** ID of the blog post. */
+  Long blogId;
+
+  /** Whether the current user has liked the post. */
+  boolean liked;
+
+  /** Whether the current user has bookmarked the post. */
+  boolean bookmarked;
+}
@@ -1,7 +1,6 @@
 package com.huseynovvusal.springblogapi.dto.response;
 
 import jakarta.annotation.Nullable;
-import java.util.List;
 import lombok.Value;
 
 /**
@@ -19,9 +18,9 @@ public class LikeResponseDto {
   long likeCount;
 
   /**
-   * Optional list of users who liked the blog post. Null when not requested (e.g. standard blog
+   * Optional page of users who liked the blog post. Null when not requested (e.g. standard blog
    * listing). Populated only on explicit "get likers" endpoint call. Uses UserSummaryDto to keep
    * payload minimal — only id, username, firstName, lastName.
    */
-  @Nullable List<UserSummaryDto> likedUsers;
+  @Nullable PageResponse<UserSummaryDto> likedUsers;
 }
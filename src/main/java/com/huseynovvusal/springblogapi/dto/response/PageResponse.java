@@ -0,0 +1,65 @@
+package com.huseynovvusal.springblogapi.dto.response;
+
+import com.huseynovvusal.springblogapi.repository.ApproximatePage;
+import java.util.List;
+import lombok.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+
+/**
+ * Compact envelope for paginated responses. Replaces direct serialization of Spring Data's {@code
+ * PageImpl}, whose JSON shape is not guaranteed to be stable and repeats the request's pageable and
+ * sort information in every response.
+ *
+ * <p>Pages fetched without a count query carry no totals; clients page on {@code hasNext} instead.
+ * When {@code totalApproximate} is set the totals are a lower bound or an estimate (see {@code
+ * blog.count.strategy}) and should be shown as such, e.g. "10,000+".
+ *
+ * @param <T> the element type
+ */
+@Value
+public class PageResponse<T> {
+
+  /** Elements of the current page. */
+  List<T> content;
+
+  /** Zero-based index of the current page. */
+  int page;
+
+  /** Requested page size. */
+  int size;
+
+  /** Total number of elements across all pages, or null if not counted. */
+  Long totalElements;
+
+  /** Total number of pages, or null if not counted. */
+  Integer totalPages;
+
+  /** Whether the totals are approximate rather than exact. */
+  boolean totalApproximate;
+
+  /** Whether a next page exists. */
+  boolean hasNext;
+
+  /**
+   * Creates an envelope from a Spring Data page or, without totals, from a slice.
+   *
+   * @param slice the page or slice to wrap
+   * @param <T> the element type
+   * @return the compact page envelope
+   */
+  public static <T> PageResponse<T> of(Slice<T> slice) {
+    if (slice instanceof Page<T> page) {
+      return new PageResponse<>(
+          page.getContent(),
+          page.getNumber(),
+          page.getSize(),
+          page.getTotalElements(),
+          page.getTotalPages(),
+          page instanceof ApproximatePage<T>,
+          page.hasNext());
+    }
+    return new PageResponse<>(
+        slice.getContent(), slice.getNumber(), slice.getSize(), null, null, false, slice.hasNext());
+  }
+}
@@ -0,0 +1,14 @@
+package com.huseynovvusal.springblogapi.dto.response;
+
+import lombok.Value;
+
+/** Data Transfer Object with a tag name and the number of blog posts carrying it. */
+@Value
+public class TagCountDto {
+
+  /** Name of the tag. */
+  String name;
+
+  /** Number of blog posts with the tag. */
+  long postCount;
+}
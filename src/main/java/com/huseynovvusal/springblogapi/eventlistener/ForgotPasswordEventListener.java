@@ -1,5 +1,6 @@
 package com.huseynovvusal.springblogapi.eventlistener;
 
+import com.huseynovvusal.springblogapi.config.AsyncConfig;
 import com.huseynovvusal.springblogapi.events.ForgotPasswordEvent;
 import com.huseynovvusal.springblogapi.service.EmailService;
 import lombok.RequiredArgsConstructor;
@@ -27,7 +28,7 @@ public class ForgotPasswordEventListener {
    * @param event the forgot password event containing user and reset link
    */
   @EventListener
-  @Async
+  @Async(AsyncConfig.FORGOT_PASSWORD_EXECUTOR)
   public void handleForgotPasswordEvent(ForgotPasswordEvent event) {
     LOGGER.info("Handling ForgotPasswordEvent for user: {}", event.getUser().getEmail());
     emailService.sendPasswordResetToken(event.getUser(), event.getResetLink());
@@ -1,5 +1,6 @@
 package com.huseynovvusal.springblogapi.eventlistener;
 
+import com.huseynovvusal.springblogapi.config.AsyncConfig;
 import com.huseynovvusal.springblogapi.events.ResetPasswordEvent;
 import com.huseynovvusal.springblogapi.service.EmailService;
 import lombok.RequiredArgsConstructor;
@@ -27,7 +28,7 @@ public class ResetPasswordEventListener {
    * @param event the reset password event containing user details
    */
   @EventListener
-  @Async
+  @Async(AsyncConfig.RESET_PASSWORD_EXECUTOR)
   public void handleResetPasswordEmail(ResetPasswordEvent event) {
     LOGGER.info("Handling ResetPasswordEvent for user: {}", event.getUser().getEmail());
     emailService.sendPasswordResetSuccess(event.getUser());
@@ -1,5 +1,6 @@
 package com.huseynovvusal.springblogapi.eventlistener;
 
+import com.huseynovvusal.springblogapi.config.AsyncConfig;
 import com.huseynovvusal.springblogapi.events.UserRegisteredEvent;
 import com.huseynovvusal.springblogapi.service.EmailService;
 import lombok.RequiredArgsConstructor;
@@ -27,7 +28,7 @@ public class UserRegisteredEventListener {
    * @param event the user registration event containing email and username
    */
   @EventListener
-  @Async
+  @Async(AsyncConfig.USER_REGISTERED_EXECUTOR)
   public void handleUserRegistrationEmail(UserRegisteredEvent event) {
     LOGGER.info("Handling UserRegisteredEvent for email: {}", event.getEmail());
     emailService.sendWelcomeEmail(event.getEmail(), event.getUsername());
@@ -9,6 +9,7 @@ import java.time.Instant;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Objects;
 import java.util.stream.Collectors;
 import org.springframework.context.support.DefaultMessageSourceResolvable;
 import org.springframework.core.annotation.AnnotationUtils;
@@ -24,6 +25,7 @@ import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.HandlerMethodValidationException;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 /**
@@ -102,6 +104,43 @@ public class RestExceptionHandler {
         fields);
   }
 
+  /**
+   * Handles constraint violations on controller method parameters, such as {@code @Min} or {@code
+   * @Size} on a request parameter.
+   *
+   * @param ex the method validation exception
+   * @param req the HTTP request
+   * @return structured 400 error response with one message per invalid parameter
+   * @throws Exception
+   */
+  @ExceptionHandler(HandlerMethodValidationException.class)
+  @ResponseStatus(HttpStatus.BAD_REQUEST)
+  public ErrorResponseDto handleMethodValidation(
+      HandlerMethodValidationException ex, HttpServletRequest req) throws Exception {
+
+    if (AnnotationUtils.findAnnotation(ex.getClass(), ResponseStatus.class) != null) {
+      throw ex;
+    }
+
+    Map<String, String> fields =
+        ex.getParameterValidationResults().stream()
+            .collect(
+                Collectors.toMap(
+                    result ->
+                        Objects.requireNonNullElse(
+                            result.getMethodParameter().getParameterName(), ""),
+                    result -> result.getResolvableErrors().getFirst().getDefaultMessage(),
+                    (a, _) -> a,
+                    LinkedHashMap::new));
+
+    return getErrorResponse(
+        req.getRequestURI(),
+        HttpStatus.BAD_REQUEST.value(),
+        HttpStatus.BAD_REQUEST.getReasonPhrase(),
+        "Validation failed",
+        fields);
+  }
+
   /**
    * Handles cases where a requested resource is not found.
    *
@@ -0,0 +1,39 @@
+package com.huseynovvusal.springblogapi.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Precomputed statistics of one author, one row per author with at least one post. Maintained
+ * incrementally by {@code AuthorStatsService} so profile pages never aggregate over blogs and
+ * likes.
+ */
+@Entity
+@Table(name = "author_stats")
+@Getter
+@Setter
+@NoArgsConstructor
+public class AuthorStats {
+
+  /** ID of the author; also the foreign key to users. */
+  @Id
+  @Column(name = "author_id")
+  private Long authorId;
+
+  /** Number of blog posts written by the author. */
+  @Column(name = "post_count", nullable = false)
+  private long postCount;
+
+  /** Total views across the author's posts. */
+  @Column(name = "total_views", nullable = false)
+  private long totalViews;
+
+  /** Total likes across the author's posts. */
+  @Column(name = "total_likes", nullable = false)
+  private long totalLikes;
+}
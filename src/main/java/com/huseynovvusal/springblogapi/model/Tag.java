@@ -5,6 +5,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
 import lombok.AllArgsConstructor;
@@ -25,7 +26,8 @@ public class Tag {
 
   /** Unique identifier for the tag. */
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tags_seq")
+  @SequenceGenerator(name = "tags_seq", sequenceName = "tags_seq", allocationSize = 50)
   private Long id;
 
   /** Name of the tag. Must be unique and no longer than 64 characters. */
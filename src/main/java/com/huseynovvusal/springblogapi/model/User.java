@@ -8,10 +8,15 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Temporal;
+import jakarta.persistence.TemporalType;
+import java.util.Date;
 import java.util.List;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.UpdateTimestamp;
 
 /**
  * Entity representing a registered user in the system. Includes personal details, credentials,
@@ -25,7 +30,8 @@ public class User {
 
   /** Unique identifier for the user. */
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_seq")
+  @SequenceGenerator(name = "users_seq", sequenceName = "users_seq", allocationSize = 50)
   private Long id;
 
   /** Unique username used for login and identification. */
@@ -57,6 +63,11 @@ public class User {
   @Column(nullable = false)
   private Role role;
 
+  /** Timestamp of the last change to the user; rendered blogs are keyed on it. */
+  @UpdateTimestamp
+  @Temporal(TemporalType.TIMESTAMP)
+  private Date updatedAt;
+
   /** List of blogs authored by the user. */
   @OneToMany(mappedBy = "author", orphanRemoval = true)
   private List<Blog> blogs;
@@ -0,0 +1,25 @@
+package com.huseynovvusal.springblogapi.repository;
+
+import java.util.List;
+import java.util.function.Function;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Page whose total is a lower bound or an estimate rather than an exact count. Mapping the page
+ * keeps the marker, so DTO pages built from it are reported as approximate too.
+ *
+ * @param <T> the element type
+ */
+public class ApproximatePage<T> extends PageImpl<T> {
+
+  public ApproximatePage(List<T> content, Pageable pageable, long approximateTotal) {
+    super(content, pageable, approximateTotal);
+  }
+
+  @Override
+  public <U> Page<U> map(Function<? super T, ? extends U> converter) {
+    return new ApproximatePage<>(getConvertedContent(converter), getPageable(), getTotalElements());
+  }
+}
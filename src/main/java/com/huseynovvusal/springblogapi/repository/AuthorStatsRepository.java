@@ -0,0 +1,7 @@
+package com.huseynovvusal.springblogapi.repository;
+
+import com.huseynovvusal.springblogapi.model.AuthorStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+/** Repository for {@link AuthorStats} rows, looked up by author ID. */
+public interface AuthorStatsRepository extends JpaRepository<AuthorStats, Long> {}
@@ -0,0 +1,9 @@
+package com.huseynovvusal.springblogapi.repository;
+
+/**
+ * Projection pairing a blog ID with its author's user ID, used to resolve several authors at once.
+ *
+ * @param blogId the blog ID
+ * @param authorId the author's user ID
+ */
+public record BlogAuthor(Long blogId, Long authorId) {}
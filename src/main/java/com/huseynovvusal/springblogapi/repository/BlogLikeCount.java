@@ -0,0 +1,9 @@
+package com.huseynovvusal.springblogapi.repository;
+
+/**
+ * Projection pairing a blog ID with its number of likes, used for grouped count queries.
+ *
+ * @param blogId the blog ID
+ * @param likeCount the number of likes on the blog
+ */
+public record BlogLikeCount(Long blogId, long likeCount) {}
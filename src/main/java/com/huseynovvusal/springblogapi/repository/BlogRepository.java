@@ -2,8 +2,11 @@ package com.huseynovvusal.springblogapi.repository;
 
 import com.huseynovvusal.springblogapi.model.Blog;
 import com.huseynovvusal.springblogapi.model.User;
-import org.springframework.data.domain.Page;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
@@ -15,16 +18,18 @@ import org.springframework.data.repository.query.Param;
  * Repository interface for accessing {@link Blog} entities. Supports pagination, dynamic filtering,
  * and custom queries.
  */
-public interface BlogRepository extends JpaRepository<Blog, Long>, JpaSpecificationExecutor<Blog> {
+public interface BlogRepository
+    extends JpaRepository<Blog, Long>, JpaSpecificationExecutor<Blog>, BlogSliceRepository {
 
   /**
-   * Finds blogs authored by a specific user with pagination.
+   * Finds blogs authored by a specific user with pagination. Returns a slice; the total is counted
+   * separately by {@code BlogPageCounter}.
    *
    * @param author the user who authored the blogs
    * @param pageable pagination information
-   * @return a page of blogs authored by the given user
+   * @return a slice of blogs authored by the given user
    */
-  Page<Blog> findByAuthor(User author, Pageable pageable);
+  Slice<Blog> findByAuthor(User author, Pageable pageable);
 
   /**
    * Eagerly fetches the author when retrieving a blog by ID. Useful for avoiding lazy loading
@@ -33,6 +38,10 @@ public interface BlogRepository extends JpaRepository<Blog, Long>, JpaSpecificat
   @EntityGraph(attributePaths = {"author"})
   Blog findWithAuthorById(Long id);
 
+  /** Loads several blogs together with their authors in one query. */
+  @EntityGraph(attributePaths = {"author"})
+  List<Blog> findWithAuthorByIdIn(Collection<Long> ids);
+
   /**
    * Increments the view count of a blog post by 1. This method is annotated with @Modifying to
    * indicate
@@ -40,4 +49,53 @@ public interface BlogRepository extends JpaRepository<Blog, Long>, JpaSpecificat
   @Modifying
   @Query("update Blog b set b.views = b.views + 1 where b.id = :id")
   void incrementViews(@Param("id") Long id);
+
+  /**
+   * Selects {@link BlogVersion} projections. The last modification time is the later of the blog's
+   * and its author's, since rendered posts embed the author's names.
+   */
+  String SELECT_VERSION =
+      "select new com.huseynovvusal.springblogapi.repository.BlogVersion(b.id,"
+          + " case when a.updatedAt > coalesce(b.updatedAt, b.createdAt) then a.updatedAt"
+          + " else coalesce(b.updatedAt, b.createdAt) end, b.views)"
+          + " from Blog b join b.author a";
+
+  /**
+   * Loads only the version information of a blog (ID, last modification time and view count)
+   * without fetching its content.
+   *
+   * @param id the blog ID
+   * @return the version projection, or empty if the blog does not exist
+   */
+  @Query(SELECT_VERSION + " where b.id = :id")
+  Optional<BlogVersion> findVersionById(@Param("id") Long id);
+
+  /**
+   * Returns which of the given IDs belong to existing blogs, resolved with a single IN query.
+   *
+   * @param ids the blog IDs to check
+   * @return the subset of IDs that exist
+   */
+  @Query("select b.id from Blog b where b.id in :ids")
+  List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+  /**
+   * Returns the author ID of a blog without loading the blog or its author.
+   *
+   * @param id the blog ID
+   * @return the author's user ID, or empty if the blog does not exist
+   */
+  @Query("select b.author.id from Blog b where b.id = :id")
+  Optional<Long> findAuthorIdById(@Param("id") Long id);
+
+  /**
+   * Returns the author IDs of several blogs in one query, without loading the blogs.
+   *
+   * @param ids the blog IDs
+   * @return one entry per existing blog
+   */
+  @Query(
+      "select new com.huseynovvusal.springblogapi.repository.BlogAuthor(b.id, b.author.id)"
+          + " from Blog b where b.id in :ids")
+  List<BlogAuthor> findAuthorIdsByIdIn(@Param("ids") Collection<Long> ids);
 }
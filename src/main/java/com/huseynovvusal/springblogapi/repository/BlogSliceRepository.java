@@ -0,0 +1,35 @@
+package com.huseynovvusal.springblogapi.repository;
+
+import com.huseynovvusal.springblogapi.model.Blog;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Custom repository fragment for paging blogs without a count query. {@code findAll(spec,
+ * pageable)} always issues a second {@code count(*)} over the whole filtered set, which costs more
+ * than the page itself on broad filters.
+ */
+public interface BlogSliceRepository {
+
+  /**
+   * Loads one page of blogs matching the specification. One extra row is fetched to tell whether a
+   * next page exists; the total is never counted.
+   *
+   * @param spec the filter
+   * @param pageable pagination and sorting information
+   * @return the page content and whether more rows follow
+   */
+  Slice<Blog> findSlice(Specification<Blog> spec, Pageable pageable);
+
+  /**
+   * Counts the blogs matching the specification, stopping after {@code limit} rows. The database
+   * reads at most {@code limit} matching rows instead of every match, and only the count is
+   * returned.
+   *
+   * @param spec the filter
+   * @param limit the maximum number of rows to count
+   * @return the number of matches, at most {@code limit}
+   */
+  long countUpTo(Specification<Blog> spec, long limit);
+}
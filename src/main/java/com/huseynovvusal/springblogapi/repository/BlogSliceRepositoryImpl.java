@@ -0,0 +1,79 @@
+package com.huseynovvusal.springblogapi.repository;
+
+import com.huseynovvusal.springblogapi.model.Blog;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.hibernate.query.criteria.JpaCriteriaQuery;
+import org.hibernate.query.criteria.JpaDerivedRoot;
+import org.hibernate.query.criteria.JpaSubQuery;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+/** Criteria API implementation of {@link BlogSliceRepository}. */
+@RequiredArgsConstructor
+class BlogSliceRepositoryImpl implements BlogSliceRepository {
+
+  private final EntityManager entityManager;
+
+  @Override
+  public Slice<Blog> findSlice(Specification<Blog> spec, Pageable pageable) {
+    CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+    CriteriaQuery<Blog> query = cb.createQuery(Blog.class);
+    Root<Blog> root = query.from(Blog.class);
+    Predicate predicate = spec.toPredicate(root, query, cb);
+    if (predicate != null) {
+      query.where(predicate);
+    }
+    query.select(root).orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+
+    TypedQuery<Blog> typedQuery = entityManager.createQuery(query);
+    if (pageable.isUnpaged()) {
+      return new SliceImpl<>(typedQuery.getResultList());
+    }
+    List<Blog> content =
+        typedQuery
+            .setFirstResult(Math.toIntExact(pageable.getOffset()))
+            .setMaxResults(pageable.getPageSize() + 1)
+            .getResultList();
+    boolean hasNext = content.size() > pageable.getPageSize();
+    return new SliceImpl<>(
+        hasNext ? content.subList(0, pageable.getPageSize()) : content, pageable, hasNext);
+  }
+
+  /**
+   * Counts over a derived table limited to {@code limit} rows, {@code select count(id) from (select
+   * id from blogs where ... fetch first :limit rows only)}, so only the count is returned and no
+   * IDs are transferred.
+   *
+   * <p>Specifications receive the outer query only to create their EXISTS subqueries, which
+   * correlate to the root of the limited subquery and are nested in its WHERE clause.
+   */
+  @Override
+  public long countUpTo(Specification<Blog> spec, long limit) {
+    HibernateCriteriaBuilder cb = entityManager.unwrap(Session.class).getCriteriaBuilder();
+    JpaCriteriaQuery<Long> query = cb.createQuery(Long.class);
+    JpaSubQuery<Tuple> matches = query.subquery(Tuple.class);
+    Root<Blog> root = matches.from(Blog.class);
+    Predicate predicate = spec.toPredicate(root, query, cb);
+    if (predicate != null) {
+      matches.where(predicate);
+    }
+    matches.multiselect(root.get("id").alias("id"));
+    matches.fetch(Math.min(limit, Integer.MAX_VALUE));
+    JpaDerivedRoot<Tuple> limited = query.from(matches);
+    query.select(cb.count(limited.get("id")));
+    return entityManager.createQuery(query).getSingleResult();
+  }
+}
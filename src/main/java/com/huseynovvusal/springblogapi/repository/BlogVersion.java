@@ -0,0 +1,14 @@
+package com.huseynovvusal.springblogapi.repository;
+
+import java.util.Date;
+
+/**
+ * Lightweight projection of a blog's version information. Loaded instead of the full entity when
+ * only freshness and counters are needed, e.g. to look up cached renderings.
+ *
+ * @param id the blog ID
+ * @param lastModified last update of the blog or of its author, whichever is later; the blog's
+ *     creation timestamp if neither was updated
+ * @param views current view count
+ */
+public record BlogVersion(Long id, Date lastModified, long views) {}
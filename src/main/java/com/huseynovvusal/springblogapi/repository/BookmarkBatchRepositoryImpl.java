@@ -0,0 +1,18 @@
+package com.huseynovvusal.springblogapi.repository;
+
+import java.util.Collection;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/** JDBC implementation of {@link BookmarkBatchRepository}. */
+@RequiredArgsConstructor
+class BookmarkBatchRepositoryImpl implements BookmarkBatchRepository {
+
+  private final JdbcTemplate jdbcTemplate;
+
+  @Override
+  public int[] insertAll(Long userId, Collection<Long> blogIds) {
+    return UserBlogBatchInsert.insertAll(
+        jdbcTemplate, "bookmarks", "bookmarks_seq", userId, blogIds);
+  }
+}
@@ -2,16 +2,22 @@ package com.huseynovvusal.springblogapi.repository;
 
 import com.huseynovvusal.springblogapi.model.Bookmark;
 import com.huseynovvusal.springblogapi.model.User;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 /**
  * Repository interface for managing {@link Bookmark} entities. Provides methods for checking
  * existence, retrieval, deletion, and pagination.
  */
-public interface BookmarkRepository extends JpaRepository<Bookmark, Long> {
+public interface BookmarkRepository
+    extends JpaRepository<Bookmark, Long>, BookmarkBatchRepository {
 
   /** Checks if a bookmark exists for the given user and blog. */
   boolean existsByUser_IdAndBlog_Id(Long userId, Long blogId);
@@ -31,4 +37,39 @@ public interface BookmarkRepository extends JpaRepository<Bookmark, Long> {
 
   /** Retrieves all bookmarks by user ID with pagination. */
   Page<Bookmark> findAllByUser_Id(Long userId, Pageable pageable);
+
+  /** Returns which of the given blogs the user has bookmarked, in one IN query. */
+  @Query("select b.blog.id from Bookmark b where b.user.id = :userId and b.blog.id in :blogIds")
+  List<Long> findBookmarkedBlogIds(
+      @Param("userId") Long userId, @Param("blogIds") Collection<Long> blogIds);
+
+  /**
+   * Deletes the user's bookmarks of the given blogs with a single bulk DELETE.
+   *
+   * @return number of rows deleted
+   */
+  @Modifying
+  @Query("delete from Bookmark b where b.user.id = :userId and b.blog.id in :blogIds")
+  int deleteByUserIdAndBlogIds(
+      @Param("userId") Long userId, @Param("blogIds") Collection<Long> blogIds);
+
+  /**
+   * Inserts a bookmark unless the user already has one on the blog or the blog does not exist, in a
+   * single statement. The row is selected from {@code blogs}, so a missing blog inserts nothing
+   * instead of failing on the foreign key, and conflicts on {@code uk_user_blog} are ignored.
+   *
+   * <p>The ID comes from {@code nextval}, which reserves a block of 50 IDs of which this row uses
+   * one. The unused IDs only thin out the 64-bit key space, which lasts far beyond any realistic
+   * number of bookmarks even so; batch inserts use their blocks in full.
+   *
+   * @return 1 if a row was inserted, 0 if it already existed or the blog does not exist
+   */
+  @Modifying
+  @Query(
+      value =
+          "insert into bookmarks (id, user_id, blog_id, created_at)"
+              + " select nextval('bookmarks_seq'), :userId, b.id, current_timestamp from blogs b"
+              + " where b.id = :blogId on conflict do nothing",
+      nativeQuery = true)
+  int insertIfAbsent(@Param("userId") Long userId, @Param("blogId") Long blogId);
 }
@@ -0,0 +1,20 @@
+package com.huseynovvusal.springblogapi.repository;
+
+import java.util.Collection;
+
+/**
+ * Custom fragment of {@link LikeRepository} for bulk inserts. The rows go through one JDBC batch
+ * that skips likes the user already has, which Hibernate's persist cannot express.
+ */
+public interface LikeBatchRepository {
+
+  /**
+   * Inserts a like of the user on every given blog in one JDBC batch. Rows the user already has,
+   * including ones added concurrently, are skipped by the database.
+   *
+   * @param userId the liking user
+   * @param blogIds the blogs to like
+   * @return per blog, in iteration order, 1 if the like was inserted and 0 if it was skipped
+   */
+  int[] insertAll(Long userId, Collection<Long> blogIds);
+}
@@ -0,0 +1,17 @@
+package com.huseynovvusal.springblogapi.repository;
+
+import java.util.Collection;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/** JDBC implementation of {@link LikeBatchRepository}. */
+@RequiredArgsConstructor
+class LikeBatchRepositoryImpl implements LikeBatchRepository {
+
+  private final JdbcTemplate jdbcTemplate;
+
+  @Override
+  public int[] insertAll(Long userId, Collection<Long> blogIds) {
+    return UserBlogBatchInsert.insertAll(jdbcTemplate, "likes", "likes_seq", userId, blogIds);
+  }
+}
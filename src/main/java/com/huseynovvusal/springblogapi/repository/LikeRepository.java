@@ -1,16 +1,21 @@
 package com.huseynovvusal.springblogapi.repository;
 
 import com.huseynovvusal.springblogapi.model.Likes;
+import java.util.Collection;
+import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 /**
  * Repository interface for managing {@link Like} entities. Provides methods for checking existence,
  * counting, deletion, and retrieval. Spring Data JPA derives all queries from method names — no
  * manual SQL needed.
  */
-public interface LikeRepository extends JpaRepository<Likes, Long> {
+public interface LikeRepository extends JpaRepository<Likes, Long>, LikeBatchRepository {
 
   /**
    * Checks if a like exists for the given user and blog. Used in service layer to prevent duplicate
@@ -37,4 +42,52 @@ public interface LikeRepository extends JpaRepository<Likes, Long> {
    * OFFSET ?
    */
   Page<Likes> findAllByBlog_Id(Long blogId, Pageable pageable);
+
+  /**
+   * Counts likes for several blogs in one grouped query. Blogs without likes are absent from the
+   * result. Translates to: SELECT blog_id, COUNT(*) WHERE blog_id IN (...) GROUP BY blog_id
+   */
+  @Query(
+      "select new com.huseynovvusal.springblogapi.repository.BlogLikeCount(l.blog.id, count(l))"
+          + " from Likes l where l.blog.id in :blogIds group by l.blog.id")
+  List<BlogLikeCount> countByBlogIds(@Param("blogIds") Collection<Long> blogIds);
+
+  /**
+   * Returns which of the given blogs the user has liked, in one IN query. Used by batch operations
+   * instead of one existsBy check per blog.
+   */
+  @Query("select l.blog.id from Likes l where l.user.id = :userId and l.blog.id in :blogIds")
+  List<Long> findLikedBlogIds(
+      @Param("userId") Long userId, @Param("blogIds") Collection<Long> blogIds);
+
+  /**
+   * Deletes the user's likes on the given blogs with a single bulk DELETE. Unlike a derived delete,
+   * the rows are not loaded first.
+   *
+   * @return number of rows deleted
+   */
+  @Modifying
+  @Query("delete from Likes l where l.user.id = :userId and l.blog.id in :blogIds")
+  int deleteByUserIdAndBlogIds(
+      @Param("userId") Long userId, @Param("blogIds") Collection<Long> blogIds);
+
+  /**
+   * Inserts a like unless the user already has one on the blog or the blog does not exist, in a
+   * single statement. The row is selected from {@code blogs}, so a missing blog inserts nothing
+   * instead of failing on the foreign key, and conflicts on {@code uk_user_blog_like} are ignored.
+   *
+   * <p>The ID comes from {@code nextval}, which reserves a block of 50 IDs of which this row uses
+   * one. The unused IDs only thin out the 64-bit key space, which lasts far beyond any realistic
+   * number of likes even so; batch inserts use their blocks in full.
+   *
+   * @return 1 if a row was inserted, 0 if it already existed or the blog does not exist
+   */
+  @Modifying
+  @Query(
+      value =
+          "insert into likes (id, user_id, blog_id, created_at)"
+              + " select nextval('likes_seq'), :userId, b.id, current_timestamp from blogs b"
+              + " where b.id = :blogId on conflict do nothing",
+      nativeQuery = true)
+  int insertIfAbsent(@Param("userId") Long userId, @Param("blogId") Long blogId);
 }
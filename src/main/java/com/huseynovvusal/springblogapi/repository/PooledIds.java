@@ -0,0 +1,36 @@
+package com.huseynovvusal.springblogapi.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Allocates IDs for native batch inserts the way Hibernate's pooled-lo optimizer does. Every {@code
+ * nextval} reserves a block of {@link #BLOCK_SIZE} IDs starting at the returned value, so a batch
+ * uses the whole block instead of spending one block per row.
+ */
+final class PooledIds {
+
+  /** Number of IDs per {@code nextval}; the {@code allocationSize} of the entity sequences. */
+  static final int BLOCK_SIZE = 50;
+
+  private PooledIds() {}
+
+  /**
+   * Reserves IDs from a sequence, one {@code nextval} per {@value #BLOCK_SIZE} IDs.
+   *
+   * @param jdbcTemplate the template to query the sequence with
+   * @param sequence the sequence name
+   * @param count the number of IDs to reserve
+   * @return the reserved IDs
+   */
+  static long[] next(JdbcTemplate jdbcTemplate, String sequence, int count) {
+    long[] ids = new long[count];
+    long lo = 0;
+    for (int i = 0; i < count; i++) {
+      if (i % BLOCK_SIZE == 0) {
+        lo = jdbcTemplate.queryForObject("select nextval('" + sequence + "')", Long.class);
+      }
+      ids[i] = lo + i % BLOCK_SIZE;
+    }
+    return ids;
+  }
+}
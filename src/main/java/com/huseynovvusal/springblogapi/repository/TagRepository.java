@@ -0,0 +1,35 @@
+package com.huseynovvusal.springblogapi.repository;
+
+import com.huseynovvusal.springblogapi.model.Tag;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+/** Repository interface for accessing {@link Tag} entities. */
+public interface TagRepository extends JpaRepository<Tag, Long> {
+
+  /**
+   * Finds the tags with any of the given exact names.
+   *
+   * @param names the tag names
+   * @return the matching tags
+   */
+  List<Tag> findByNameIn(Collection<String> names);
+
+  /**
+   * Inserts a tag unless one with the same name exists, in a single statement. Concurrent creation
+   * of the same tag is resolved by the unique constraint on {@code name}.
+   *
+   * @return 1 if a row was inserted, 0 if it already existed
+   */
+  @Modifying
+  @Query(
+      value =
+          "insert into tags (id, name) values (nextval('tags_seq'), :name)"
+              + " on conflict do nothing",
+      nativeQuery = true)
+  int insertIfAbsent(@Param("name") String name);
+}
@@ -0,0 +1,78 @@
+package com.huseynovvusal.springblogapi.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+
+/**
+ * Bulk insert shared by the tables linking a user to blogs, {@code likes} and {@code bookmarks}.
+ * Rows go through one JDBC batch that skips rows the user already has; the blog IDs of the rows
+ * actually inserted are read back as generated keys, which the PostgreSQL driver requests with
+ * {@code RETURNING blog_id}.
+ */
+final class UserBlogBatchInsert {
+
+  private static final String INSERT_SQL =
+      "insert into %s (id, user_id, blog_id, created_at)"
+          + " values (?, ?, ?, ?) on conflict do nothing";
+
+  private UserBlogBatchInsert() {}
+
+  /**
+   * Inserts a row of the user for every given blog, with IDs from pooled sequence blocks.
+   *
+   * @param jdbcTemplate the template to run the batch with
+   * @param table the table to insert into
+   * @param sequence the sequence of the table's IDs
+   * @param userId the user
+   * @param blogIds the blogs
+   * @return per blog, in iteration order, 1 if the row was inserted and 0 if it was skipped
+   */
+  static int[] insertAll(
+      JdbcTemplate jdbcTemplate,
+      String table,
+      String sequence,
+      Long userId,
+      Collection<Long> blogIds) {
+    List<Long> ids = List.copyOf(blogIds);
+    long[] rowIds = PooledIds.next(jdbcTemplate, sequence, ids.size());
+    Timestamp now = Timestamp.from(Instant.now());
+    String sql = INSERT_SQL.formatted(table);
+    KeyHolder keys = new GeneratedKeyHolder();
+    jdbcTemplate.batchUpdate(
+        con -> con.prepareStatement(sql, new String[] {"blog_id"}),
+        new BatchPreparedStatementSetter() {
+          @Override
+          public void setValues(PreparedStatement ps, int i) throws SQLException {
+            ps.setLong(1, rowIds[i]);
+            ps.setLong(2, userId);
+            ps.setLong(3, ids.get(i));
+            ps.setTimestamp(4, now);
+          }
+
+          @Override
+          public int getBatchSize() {
+            return ids.size();
+          }
+        },
+        keys);
+    Set<Long> inserted =
+        keys.getKeyList().stream().map(UserBlogBatchInsert::blogId).collect(Collectors.toSet());
+    return ids.stream().mapToInt(id -> inserted.contains(id) ? 1 : 0).toArray();
+  }
+
+  /** Reads the blog ID of a returned row; drivers differ in the case of the column label. */
+  private static Long blogId(Map<String, Object> key) {
+    return ((Number) key.values().iterator().next()).longValue();
+  }
+}
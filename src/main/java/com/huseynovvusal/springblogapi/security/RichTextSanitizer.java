@@ -1,7 +1,20 @@
 package com.huseynovvusal.springblogapi.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
 import org.owasp.html.HtmlPolicyBuilder;
+import org.owasp.html.HtmlSanitizer;
+import org.owasp.html.HtmlStreamRenderer;
 import org.owasp.html.PolicyFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 /**
@@ -11,6 +24,13 @@ import org.springframework.stereotype.Component;
  *
  * <p>Allowed elements: p, br, b, strong, i, em, ul, ol, li, blockquote, pre, a Allowed on links:
  * href (http/https only), rel="nofollow" enforced automatically.
+ *
+ * <p>Two shortcuts avoid running the full policy: plain text that the policy would leave untouched
+ * is returned as-is after a single character scan, and results for large payloads are cached by the
+ * SHA-256 of their content so re-submits and title-only edits are not sanitized again.
+ *
+ * <p>Sanitized output is streamed and compared with the input as it is written, so callers learn
+ * whether anything changed without a second pass, and unchanged content is never copied.
  */
 @Component
 public class RichTextSanitizer {
@@ -24,6 +44,29 @@ public class RichTextSanitizer {
           .requireRelNofollowOnLinks()
           .toFactory();
 
+  private final Cache<String, SanitizationResult> cache;
+  private final int minCacheableLength;
+
+  /** Creates a sanitizer with the default cache settings. */
+  public RichTextSanitizer() {
+    this(8_000_000L, 1024, Duration.ofMinutes(30));
+  }
+
+  @Autowired
+  public RichTextSanitizer(
+      @Value("${sanitizer.cache.max-chars:8000000}") long maxCachedChars,
+      @Value("${sanitizer.cache.min-length:1024}") int minCacheableLength,
+      @Value("${sanitizer.cache.expire-after-access:30m}") Duration expireAfterAccess) {
+    this.minCacheableLength = minCacheableLength;
+    this.cache =
+        Caffeine.newBuilder()
+            .maximumWeight(maxCachedChars)
+            .weigher(
+                (String key, SanitizationResult value) -> key.length() + value.content().length())
+            .expireAfterAccess(expireAfterAccess)
+            .build();
+  }
+
   /**
    * Returns sanitized HTML, or null if input is null. All tags and attributes not in the policy are
    * stripped.
@@ -33,8 +76,135 @@ public class RichTextSanitizer {
    */
   public String sanitize(String content) {
     if (content != null) {
-      return POLICY.sanitize(content);
+      return sanitizeWithResult(content).content();
     }
     return null;
   }
+
+  /**
+   * Sanitizes the content and reports whether the policy changed it. The output is written in a
+   * single streaming pass that compares it with the input on the fly; as long as the two agree
+   * nothing is buffered, so unchanged content is returned as the original instance.
+   *
+   * @param content raw HTML string to sanitize, must not be null
+   * @return the sanitized content and whether it differs from the input
+   */
+  public SanitizationResult sanitizeWithResult(String content) {
+    if (isPlainText(content)) {
+      return new SanitizationResult(content, false);
+    }
+    if (content.length() < minCacheableLength) {
+      return stream(content);
+    }
+    return cache.get(sha256(content), key -> stream(content));
+  }
+
+  private static SanitizationResult stream(String content) {
+    ChangeTrackingAppendable out = new ChangeTrackingAppendable(content);
+    HtmlSanitizer.sanitize(
+        content,
+        POLICY.apply(
+            HtmlStreamRenderer.create(
+                out,
+                (IOException e) -> {
+                  throw new UncheckedIOException(e);
+                },
+                (String badHtml) -> {})));
+    return out.result();
+  }
+
+  /**
+   * Checks whether the policy would return the content unchanged. Only characters the sanitizer
+   * never escapes or drops qualify; anything else (markup, entities, quotes, template braces,
+   * control characters, surrogates) goes through the full policy.
+   *
+   * @param content the content to scan
+   * @return true if the content can be returned as-is
+   */
+  static boolean isPlainText(CharSequence content) {
+    for (int i = 0, n = content.length(); i < n; i++) {
+      if (!isSafeTextChar(content.charAt(i))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean isSafeTextChar(char c) {
+    if (c < 0x80) {
+      return switch (c) {
+        case '\t', '\n', '\r' -> true;
+        // The policy encodes '{' to break up template expressions such as {{x}}
+        case '<', '>', '&', '"', '\'', '+', '=', '@', '`', '{' -> false;
+        default -> c >= 0x20 && c < 0x7F;
+      };
+    }
+    // Excludes C1 controls, surrogates and the U+FDD0..U+FFFF non-character/specials range
+    return (c >= 0xA0 && c < Character.MIN_SURROGATE)
+        || (c > Character.MAX_SURROGATE && c < 0xFDD0);
+  }
+
+  private static String sha256(String content) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      return HexFormat.of().formatHex(digest.digest(content.getBytes(StandardCharsets.UTF_8)));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 not available", e);
+    }
+  }
+
+  /**
+   * Receives the sanitizer output and compares it with the original input as it is written. While
+   * the output is an exact prefix of the input only a cursor advances; on the first difference the
+   * matched prefix is copied into a buffer sized for the input and writing continues there.
+   */
+  private static final class ChangeTrackingAppendable implements Appendable {
+
+    private final String original;
+    private int matched;
+    private StringBuilder buffer;
+
+    ChangeTrackingAppendable(String original) {
+      this.original = original;
+    }
+
+    @Override
+    public Appendable append(CharSequence csq) {
+      return append(csq, 0, csq.length());
+    }
+
+    @Override
+    public Appendable append(CharSequence csq, int start, int end) {
+      int i = start;
+      while (buffer == null && i < end) {
+        append(csq.charAt(i++));
+      }
+      if (i < end) {
+        buffer.append(csq, i, end);
+      }
+      return this;
+    }
+
+    @Override
+    public Appendable append(char c) {
+      if (buffer == null) {
+        if (matched < original.length() && original.charAt(matched) == c) {
+          matched++;
+          return this;
+        }
+        buffer = new StringBuilder(original.length() + 16);
+        buffer.append(original, 0, matched);
+      }
+      buffer.append(c);
+      return this;
+    }
+
+    SanitizationResult result() {
+      if (buffer == null && matched == original.length()) {
+        return new SanitizationResult(original, false);
+      }
+      String sanitized = buffer != null ? buffer.toString() : original.substring(0, matched);
+      return new SanitizationResult(sanitized, true);
+    }
+  }
 }
@@ -0,0 +1,9 @@
+package com.huseynovvusal.springblogapi.security;
+
+/**
+ * Outcome of sanitizing a piece of rich text.
+ *
+ * @param content the sanitized content, ready to be persisted
+ * @param modified whether the sanitizer changed anything; when false, {@code content} is the input
+ */
+public record SanitizationResult(String content, boolean modified) {}
@@ -0,0 +1,75 @@
+package com.huseynovvusal.springblogapi.service;
+
+import java.util.concurrent.locks.Lock;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/** Defers in-memory bookkeeping until the surrounding transaction has committed. */
+final class AfterCommit {
+
+  private AfterCommit() {}
+
+  /**
+   * Runs the action once the current transaction commits, or right away outside a transaction. A
+   * rolled-back transaction never runs it.
+   *
+   * @param action the action to run
+   */
+  static void run(Runnable action) {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(
+          new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+              action.run();
+            }
+          });
+    } else {
+      action.run();
+    }
+  }
+
+  /**
+   * Runs the action once the current transaction commits, holding the lock from just before the
+   * commit until the action has run; outside a transaction it runs right away under the lock. The
+   * holder of a matching write lock therefore finds every committed change already recorded, and no
+   * further change commits until it releases the lock.
+   *
+   * @param lock the lock to hold, typically the read side of a read-write lock
+   * @param action the action to run
+   */
+  static void run(Lock lock, Runnable action) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      lock.lock();
+      try {
+        action.run();
+      } finally {
+        lock.unlock();
+      }
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          private boolean locked;
+
+          @Override
+          public void beforeCommit(boolean readOnly) {
+            lock.lock();
+            locked = true;
+          }
+
+          @Override
+          public void afterCommit() {
+            action.run();
+          }
+
+          @Override
+          public void afterCompletion(int status) {
+            if (locked) {
+              lock.unlock();
+              locked = false;
+            }
+          }
+        });
+  }
+}
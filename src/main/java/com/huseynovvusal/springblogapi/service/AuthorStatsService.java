@@ -0,0 +1,276 @@
+package com.huseynovvusal.springblogapi.service;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.huseynovvusal.springblogapi.model.AuthorStats;
+import com.huseynovvusal.springblogapi.repository.AuthorStatsRepository;
+import com.huseynovvusal.springblogapi.repository.BlogAuthor;
+import com.huseynovvusal.springblogapi.repository.BlogRepository;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Maintains per-author post, view and like totals in the {@code author_stats} side table, so
+ * profile pages read one row instead of aggregating over {@code blogs} and {@code likes}.
+ *
+ * <p>Changes are accumulated in memory per author and flushed periodically in JDBC batches; a view
+ * of a popular post therefore never updates its author's row directly. Reads add the unflushed
+ * deltas to the stored row. Deltas are recorded only once the writing transaction commits. A daily
+ * reconciliation recomputes every row from the source tables, which also backfills authors that
+ * posted before the table existed.
+ */
+@Slf4j
+@Service
+public class AuthorStatsService {
+
+  private static final String INSERT_MISSING_SQL =
+      "insert into author_stats (author_id, post_count, total_views, total_likes)"
+          + " values (?, 0, 0, 0) on conflict do nothing";
+
+  private static final String FLUSH_SQL =
+      "update author_stats set post_count = post_count + ?, total_views = total_views + ?,"
+          + " total_likes = total_likes + ? where author_id = ?";
+
+  private static final String BACKFILL_SQL =
+      "insert into author_stats (author_id, post_count, total_views, total_likes)"
+          + " select a.author_id, 0, 0, 0 from (select distinct author_id from blogs) a"
+          + " where not exists (select 1 from author_stats s where s.author_id = a.author_id)";
+
+  private static final String RECONCILE_SQL =
+      "update author_stats s set"
+          + " post_count = (select count(*) from blogs b where b.author_id = s.author_id),"
+          + " total_views = (select coalesce(sum(b.views), 0) from blogs b"
+          + " where b.author_id = s.author_id),"
+          + " total_likes = (select count(*) from likes l join blogs b on b.id = l.blog_id"
+          + " where b.author_id = s.author_id)";
+
+  private final AuthorStatsRepository authorStatsRepository;
+  private final JdbcTemplate jdbcTemplate;
+
+  /** Repeatable-read transaction, so the whole reconciliation reads one snapshot. */
+  private final TransactionTemplate snapshotTransaction;
+
+  /** Blog to author mapping, so view and like events only need the blog ID. */
+  private final LoadingCache<Long, Long> blogAuthors;
+
+  /** Unflushed changes per author; replaced wholesale when a reconciliation starts. */
+  private volatile Map<Long, Deltas> pending = new ConcurrentHashMap<>();
+
+  /** Held by flushes and reconciliations, so they never interleave. */
+  private final Lock flushLock = new ReentrantLock();
+
+  /**
+   * Read side held by transactions recording changes, from their commit until the change is in
+   * {@link #pending}; write side held by a reconciliation while it swaps the map and takes its
+   * snapshot.
+   */
+  private final ReadWriteLock commitLock = new ReentrantReadWriteLock();
+
+  public AuthorStatsService(
+      BlogRepository blogRepository,
+      AuthorStatsRepository authorStatsRepository,
+      JdbcTemplate jdbcTemplate,
+      PlatformTransactionManager transactionManager) {
+    this.authorStatsRepository = authorStatsRepository;
+    this.jdbcTemplate = jdbcTemplate;
+    this.snapshotTransaction = new TransactionTemplate(transactionManager);
+    this.snapshotTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+    this.blogAuthors =
+        Caffeine.newBuilder()
+            .maximumSize(100_000)
+            .build(
+                new CacheLoader<Long, Long>() {
+                  @Override
+                  public Long load(Long blogId) {
+                    return blogRepository.findAuthorIdById(blogId).orElse(null);
+                  }
+
+                  @Override
+                  public Map<Long, Long> loadAll(Set<? extends Long> blogIds) {
+                    return blogRepository.findAuthorIdsByIdIn(List.copyOf(blogIds)).stream()
+                        .collect(Collectors.toMap(BlogAuthor::blogId, BlogAuthor::authorId));
+                  }
+                });
+  }
+
+  /**
+   * Records a new post by an author once the current transaction commits.
+   *
+   * @param authorId the author's user ID
+   */
+  public void recordPost(Long authorId) {
+    AfterCommit.run(commitLock.readLock(), () -> deltas(authorId).posts.increment());
+  }
+
+  /**
+   * Records a view of a blog for its author once the current transaction commits.
+   *
+   * @param blogId the viewed blog
+   */
+  public void recordView(Long blogId) {
+    Long authorId = blogAuthors.get(blogId);
+    if (authorId != null) {
+      AfterCommit.run(commitLock.readLock(), () -> deltas(authorId).views.increment());
+    }
+  }
+
+  /**
+   * Records likes added (positive delta) or removed (negative delta) on a blog for its author once
+   * the current transaction commits.
+   *
+   * @param blogId the liked blog
+   * @param delta the change in likes
+   */
+  public void recordLikes(Long blogId, long delta) {
+    Long authorId = blogAuthors.get(blogId);
+    if (authorId != null) {
+      AfterCommit.run(commitLock.readLock(), () -> deltas(authorId).likes.add(delta));
+    }
+  }
+
+  /**
+   * Records a change of likes on several blogs for their authors once the current transaction
+   * commits. Authors missing from the cache are resolved with one query.
+   *
+   * @param blogIds the liked blogs
+   * @param delta the change in likes per blog
+   */
+  public void recordLikes(Collection<Long> blogIds, long delta) {
+    Collection<Long> authorIds = blogAuthors.getAll(blogIds).values();
+    AfterCommit.run(
+        commitLock.readLock(),
+        () -> authorIds.forEach(authorId -> deltas(authorId).likes.add(delta)));
+  }
+
+  /**
+   * Returns an author's statistics: the stored row plus changes not yet flushed. One primary key
+   * lookup, independent of how many posts or likes the author has.
+   *
+   * @param authorId the author's user ID
+   * @return the author's current statistics
+   */
+  public AuthorStats getStats(Long authorId) {
+    AuthorStats stats = authorStatsRepository.findById(authorId).orElseGet(AuthorStats::new);
+    stats.setAuthorId(authorId);
+    Deltas deltas = pending.get(authorId);
+    if (deltas != null) {
+      stats.setPostCount(stats.getPostCount() + deltas.posts.sum());
+      stats.setTotalViews(stats.getTotalViews() + deltas.views.sum());
+      stats.setTotalLikes(stats.getTotalLikes() + deltas.likes.sum());
+    }
+    return stats;
+  }
+
+  /**
+   * Writes accumulated changes to {@code author_stats}: one batch creating missing rows, one batch
+   * applying the deltas. Changes that fail to persist are put back for the next flush.
+   */
+  @Scheduled(fixedDelayString = "${blog.author-stats.flush-interval-ms:10000}")
+  public void flush() {
+    flushLock.lock();
+    try {
+      write();
+    } finally {
+      flushLock.unlock();
+    }
+  }
+
+  private void write() {
+    List<Object[]> rows = new ArrayList<>();
+    pending.forEach(
+        (authorId, deltas) -> {
+          long posts = deltas.posts.sumThenReset();
+          long views = deltas.views.sumThenReset();
+          long likes = deltas.likes.sumThenReset();
+          if (posts != 0 || views != 0 || likes != 0) {
+            rows.add(new Object[] {posts, views, likes, authorId});
+          }
+        });
+    if (rows.isEmpty()) {
+      return;
+    }
+
+    try {
+      jdbcTemplate.batchUpdate(
+          INSERT_MISSING_SQL, rows.stream().map(row -> new Object[] {row[3]}).toList());
+      jdbcTemplate.batchUpdate(FLUSH_SQL, rows);
+      log.debug("Flushed statistics of {} authors", rows.size());
+    } catch (DataAccessException e) {
+      log.warn("Failed to flush statistics of {} authors, will retry", rows.size(), e);
+      for (Object[] row : rows) {
+        Deltas deltas = deltas((Long) row[3]);
+        deltas.posts.add((Long) row[0]);
+        deltas.views.add((Long) row[1]);
+        deltas.likes.add((Long) row[2]);
+      }
+    }
+  }
+
+  /**
+   * Creates rows for authors without one and recomputes every row from {@code blogs} and {@code
+   * likes}. Corrects drift from lost updates and backfills existing data.
+   *
+   * <p>Pending deltas are not flushed but discarded: the recompute already includes them, and
+   * flushing them as well would count them twice. The map is swapped and the recompute's snapshot
+   * taken while no recording transaction can commit, so every delta is either discarded and part of
+   * the snapshot, or kept for the next flush and missing from it. Flushes wait until the
+   * reconciliation is done.
+   */
+  @Scheduled(
+      initialDelayString = "${blog.author-stats.reconcile-initial-delay-ms:60000}",
+      fixedDelayString = "${blog.author-stats.reconcile-interval-ms:86400000}")
+  public void reconcile() {
+    flushLock.lock();
+    try {
+      snapshotTransaction.executeWithoutResult(
+          status -> {
+            commitLock.writeLock().lock();
+            try {
+              pending = new ConcurrentHashMap<>();
+              // The first statement fixes the transaction's snapshot
+              jdbcTemplate.queryForObject("select 1", Integer.class);
+            } finally {
+              commitLock.writeLock().unlock();
+            }
+            int created = jdbcTemplate.update(BACKFILL_SQL);
+            int updated = jdbcTemplate.update(RECONCILE_SQL);
+            log.info(
+                "Reconciled author statistics: {} rows created, {} rows recomputed",
+                created,
+                updated);
+          });
+    } finally {
+      flushLock.unlock();
+    }
+  }
+
+  private Deltas deltas(Long authorId) {
+    return pending.computeIfAbsent(authorId, id -> new Deltas());
+  }
+
+  /** Unflushed changes of one author. */
+  private static final class Deltas {
+    private final LongAdder posts = new LongAdder();
+    private final LongAdder views = new LongAdder();
+    private final LongAdder likes = new LongAdder();
+  }
+}
@@ -0,0 +1,115 @@
+package com.huseynovvusal.springblogapi.service;
+
+import com.huseynovvusal.springblogapi.events.UserRegisteredEvent;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Typeahead for tag names and usernames, served from in-memory {@link PrefixIndex}es instead of
+ * {@code LIKE} queries. Tags are ranked by the post counts {@link TagStatsService} keeps in memory
+ * and users by number of posts written.
+ *
+ * <p>Both indexes are built when the application is ready and rebuilt periodically to refresh the
+ * popularity scores. New tags and newly registered users are inserted immediately with a score of
+ * zero; one created while a rebuild is running appears again after the next rebuild.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AutocompleteService {
+
+  private static final String USERNAME_SCORES_SQL =
+      "select u.username, count(b.id) from users u"
+          + " left join blogs b on b.author_id = u.id group by u.username";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final TagStatsService tagStatsService;
+
+  private volatile PrefixIndex tags = PrefixIndex.of(Map.of());
+  private volatile PrefixIndex usernames = PrefixIndex.of(Map.of());
+
+  /** Builds both indexes once the application is ready. */
+  @EventListener(ApplicationReadyEvent.class)
+  public void load() {
+    rebuild();
+  }
+
+  /** Rebuilds both indexes with current popularity scores. */
+  @Scheduled(
+      initialDelayString = "${blog.autocomplete.rebuild-interval-ms:600000}",
+      fixedDelayString = "${blog.autocomplete.rebuild-interval-ms:600000}")
+  public void rebuild() {
+    PrefixIndex tagIndex = PrefixIndex.of(tagStatsService.postCountsByName());
+    PrefixIndex usernameIndex = PrefixIndex.of(loadUsernameScores());
+    synchronized (this) {
+      tags = tagIndex;
+      usernames = usernameIndex;
+    }
+    log.info(
+        "Built autocomplete indexes: {} tags, {} users", tagIndex.size(), usernameIndex.size());
+  }
+
+  /**
+   * Suggests tag names starting with the prefix, ignoring case.
+   *
+   * @param prefix the typed prefix
+   * @param limit maximum number of suggestions
+   * @return tag names, most used first
+   */
+  public List<String> suggestTags(String prefix, int limit) {
+    return tags.suggest(prefix, limit);
+  }
+
+  /**
+   * Suggests usernames starting with the prefix, ignoring case.
+   *
+   * @param prefix the typed prefix
+   * @param limit maximum number of suggestions
+   * @return usernames, most prolific authors first
+   */
+  public List<String> suggestUsernames(String prefix, int limit) {
+    return usernames.suggest(prefix, limit);
+  }
+
+  /**
+   * Adds newly created tags to the tag index.
+   *
+   * @param names the tag names
+   */
+  public synchronized void addTags(Collection<String> names) {
+    PrefixIndex index = tags;
+    for (String name : names) {
+      index = index.with(name);
+    }
+    tags = index;
+  }
+
+  /**
+   * Adds a newly registered user to the username index.
+   *
+   * @param event the registration event
+   */
+  @EventListener
+  public synchronized void onUserRegistered(UserRegisteredEvent event) {
+    usernames = usernames.with(event.getUsername());
+  }
+
+  private Map<String, Long> loadUsernameScores() {
+    Map<String, Long> scores = new HashMap<>();
+    jdbcTemplate.query(
+        USERNAME_SCORES_SQL,
+        rs -> {
+          scores.put(rs.getString(1), rs.getLong(2));
+        });
+    return scores;
+  }
+}
@@ -0,0 +1,66 @@
+package com.huseynovvusal.springblogapi.service;
+
+import com.huseynovvusal.springblogapi.dto.response.BlogResponseDto;
+import com.huseynovvusal.springblogapi.repository.BlogVersion;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+
+/**
+ * Utility class for computing weak ETags of blog resources from their version information (ID, last
+ * modification time and like count). View counts are left out: they change on every read.
+ */
+public final class BlogEtags {
+
+  private static final long MULTIPLIER = 0x9E3779B97F4A7C15L;
+
+  private BlogEtags() {}
+
+  /**
+   * Computes the ETag of a single blog, ignoring its view count.
+   *
+   * @param version the blog's version information
+   * @param likeCount the blog's like count
+   * @return weak ETag value
+   */
+  public static String forBlog(BlogVersion version, long likeCount) {
+    long hash = mix(0L, version.id());
+    hash = mix(hash, version.lastModified().getTime());
+    hash = mix(hash, likeCount);
+    return weak(hash);
+  }
+
+  /**
+   * Computes the ETag of a page of blog DTOs, ignoring their view counts. The tag is derived from
+   * the page that is sent, so a cached page and its tag always describe the same snapshot.
+   *
+   * @param page the page of blog DTOs
+   * @return weak ETag value
+   */
+  public static String forPage(Slice<BlogResponseDto> page) {
+    long hash = mixPage(page);
+    for (BlogResponseDto blog : page) {
+      hash = mix(hash, blog.getId());
+      hash = mix(hash, blog.getUpdatedAt() != null ? blog.getUpdatedAt().getTime() : 0L);
+      hash = mix(hash, blog.getLikeCount() != null ? blog.getLikeCount() : 0L);
+    }
+    return weak(hash);
+  }
+
+  private static long mixPage(Slice<?> page) {
+    long hash = mix(0L, page.getNumber());
+    hash = mix(hash, page.getSize());
+    if (page instanceof Page<?> counted) {
+      return mix(hash, counted.getTotalElements());
+    }
+    return mix(hash, page.hasNext() ? 1L : 0L);
+  }
+
+  private static long mix(long hash, long value) {
+    long h = (hash ^ value) * MULTIPLIER;
+    return h ^ (h >>> 32);
+  }
+
+  private static String weak(long hash) {
+    return "W/\"" + Long.toHexString(hash) + "\"";
+  }
+}
@@ -0,0 +1,372 @@
+package com.huseynovvusal.springblogapi.service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.IntIterator;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Optional in-memory index answering {@code /blogs/filter} without scanning {@code blogs} and
+ * {@code blog_tags}. Blog IDs are kept in compressed Roaring bitmaps per tag, per author and per
+ * creation day; a filter is evaluated as a union of tag bitmaps intersected with the author and
+ * date bitmaps, and only the IDs of the requested page are then loaded from the database.
+ *
+ * <p>Enabled with {@code blog.filter-index.enabled}. The index is built once the application is
+ * ready and kept current on blog creation and tag changes; until it is built, or for queries it
+ * cannot answer, {@link BlogService} falls back to the database. It is rebuilt periodically ({@code
+ * blog.filter-index.rebuild-interval-ms}) to pick up writes of other instances and deletions.
+ * Bitmaps hold 32-bit values, so the index disables itself if a blog ID exceeds {@link
+ * Integer#MAX_VALUE}.
+ *
+ * <p>Results are ordered by ID. IDs are handed out to each instance in blocks ahead of use, so ID
+ * order does not follow creation order and pages sorted by {@code createdAt} are left to the
+ * database.
+ */
+@Slf4j
+@Component
+public class BlogFilterIndex {
+
+  private static final String BLOGS_SQL =
+      "select b.id, u.username, b.created_at from blogs b join users u on u.id = b.author_id";
+
+  private static final String BLOG_TAGS_SQL = "select blog_id, tag_id from blog_tags";
+
+  private static final long DAY_MILLIS = TimeUnit.DAYS.toMillis(1);
+
+  private final JdbcTemplate jdbcTemplate;
+  private final boolean enabled;
+
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+  private Bitmaps bitmaps = new Bitmaps();
+
+  /** Changes applied while a build is running, replayed onto the new bitmaps; guarded by lock. */
+  private List<Consumer<Bitmaps>> journal;
+
+  private volatile boolean ready;
+
+  public BlogFilterIndex(
+      JdbcTemplate jdbcTemplate, @Value("${blog.filter-index.enabled:false}") boolean enabled) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.enabled = enabled;
+  }
+
+  /**
+   * Builds the index from {@code blogs} and {@code blog_tags}. Rows are read into separate bitmaps
+   * that replace the current ones at the end. Changes applied meanwhile are recorded and replayed
+   * onto the new bitmaps before the swap, so they are neither blocked nor lost nor undone.
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void load() {
+    if (!enabled) {
+      return;
+    }
+    long start = System.nanoTime();
+    lock.writeLock().lock();
+    try {
+      journal = new ArrayList<>();
+    } finally {
+      lock.writeLock().unlock();
+    }
+    Bitmaps loaded = new Bitmaps();
+    boolean complete = false;
+    try {
+      jdbcTemplate.query(
+          BLOGS_SQL,
+          rs ->
+              loaded.addBlog(
+                  toIndex(rs.getLong(1)), rs.getString(2), rs.getTimestamp(3).getTime()));
+      jdbcTemplate.query(
+          BLOG_TAGS_SQL, rs -> loaded.addTag(toIndex(rs.getLong(1)), rs.getLong(2)));
+      complete = true;
+    } catch (ArithmeticException e) {
+      log.warn("Blog IDs exceed the 32-bit range, filter index disabled");
+      ready = false;
+    } finally {
+      lock.writeLock().lock();
+      try {
+        if (complete) {
+          journal.forEach(change -> change.accept(loaded));
+          bitmaps = loaded;
+          ready = true;
+        }
+        journal = null;
+      } finally {
+        lock.writeLock().unlock();
+      }
+    }
+    if (complete) {
+      log.info(
+          "Built filter index of {} blogs and {} tags in {} ms",
+          loaded.all.getCardinality(),
+          loaded.byTag.size(),
+          TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+  }
+
+  /** Rebuilds the index from the database, dropping deleted blogs and drift. */
+  @Scheduled(
+      initialDelayString = "${blog.filter-index.rebuild-interval-ms:3600000}",
+      fixedDelayString = "${blog.filter-index.rebuild-interval-ms:3600000}")
+  public void rebuild() {
+    load();
+  }
+
+  /**
+   * Checks whether the index can serve a page: it must be built, and the page must be unsorted or
+   * sorted by {@code id} alone.
+   *
+   * @param pageable the requested page
+   * @return true if {@link #findIds} may be used
+   */
+  public boolean supports(Pageable pageable) {
+    if (!ready || pageable.isUnpaged()) {
+      return false;
+    }
+    List<Sort.Order> orders = pageable.getSort().toList();
+    return orders.isEmpty() || (orders.size() == 1 && "id".equals(orders.get(0).getProperty()));
+  }
+
+  /**
+   * Evaluates a filter in memory and returns the IDs of the requested page. Criteria that are null
+   * are not applied; unsorted pages are returned newest first.
+   *
+   * @param tagIds IDs of the tags of which a blog must have at least one
+   * @param authorUsername the author's username, matched case-insensitively
+   * @param createdFrom start of the creation date range (inclusive)
+   * @param createdTo end of the creation date range (inclusive)
+   * @param pageable the requested page, see {@link #supports(Pageable)}
+   * @return the page of matching blog IDs with the total number of matches
+   */
+  public Page<Long> findIds(
+      Collection<Long> tagIds,
+      String authorUsername,
+      Instant createdFrom,
+      Instant createdTo,
+      Pageable pageable) {
+    lock.readLock().lock();
+    try {
+      RoaringBitmap result = bitmaps.all;
+      if (tagIds != null && !tagIds.isEmpty()) {
+        result =
+            RoaringBitmap.and(
+                result,
+                RoaringBitmap.or(
+                    tagIds.stream().map(bitmaps.byTag::get).filter(Objects::nonNull).iterator()));
+      }
+      if (authorUsername != null && !authorUsername.isBlank()) {
+        RoaringBitmap byAuthor = bitmaps.byAuthor.get(authorUsername.toLowerCase(Locale.ROOT));
+        result = byAuthor != null ? RoaringBitmap.and(result, byAuthor) : new RoaringBitmap();
+      }
+      if (createdFrom != null || createdTo != null) {
+        result = RoaringBitmap.and(result, bitmaps.createdBetween(createdFrom, createdTo));
+      }
+      return page(result, pageable);
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Adds a newly created blog.
+   *
+   * @param blogId the blog ID
+   * @param authorUsername the author's username
+   * @param createdAt the creation time
+   * @param tagIds IDs of the blog's tags
+   */
+  public void onCreated(
+      Long blogId, String authorUsername, Date createdAt, Collection<Long> tagIds) {
+    if (!enabled || !fitsIndex(blogId)) {
+      return;
+    }
+    int id = blogId.intValue();
+    long createdAtMillis = createdAt.getTime();
+    List<Long> tags = List.copyOf(tagIds);
+    apply(
+        target -> {
+          target.addBlog(id, authorUsername, createdAtMillis);
+          tags.forEach(tagId -> target.addTag(id, tagId));
+        });
+  }
+
+  /**
+   * Moves a blog between tag bitmaps after its tags changed. Applied once the surrounding
+   * transaction commits, so a rolled-back change never becomes visible.
+   *
+   * @param blogId the blog ID
+   * @param removed IDs of the tags the blog no longer has
+   * @param added IDs of the tags the blog gained
+   */
+  public void onTagsChanged(Long blogId, Collection<Long> removed, Collection<Long> added) {
+    if (!enabled || !fitsIndex(blogId)) {
+      return;
+    }
+    int id = blogId.intValue();
+    List<Long> removedTags = List.copyOf(removed);
+    List<Long> addedTags = List.copyOf(added);
+    AfterCommit.run(
+        () ->
+            apply(
+                target -> {
+                  removedTags.forEach(tagId -> target.removeTag(id, tagId));
+                  addedTags.forEach(tagId -> target.addTag(id, tagId));
+                }));
+  }
+
+  /** Applies a change to the current bitmaps and records it for a build in progress. */
+  private void apply(Consumer<Bitmaps> change) {
+    lock.writeLock().lock();
+    try {
+      change.accept(bitmaps);
+      if (journal != null) {
+        journal.add(change);
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  private boolean fitsIndex(Long blogId) {
+    if (blogId > Integer.MAX_VALUE) {
+      if (ready) {
+        log.warn("Blog ID {} exceeds the 32-bit range, filter index disabled", blogId);
+      }
+      ready = false;
+      return false;
+    }
+    return true;
+  }
+
+  private static int toIndex(long blogId) {
+    return Math.toIntExact(blogId);
+  }
+
+  /** Selects one page of a result bitmap by rank, without iterating over the skipped IDs. */
+  private static Page<Long> page(RoaringBitmap result, Pageable pageable) {
+    int total = result.getCardinality();
+    boolean ascending =
+        pageable.getSort().stream().findFirst().map(Sort.Order::isAscending).orElse(false);
+    long end = Math.min(total, pageable.getOffset() + pageable.getPageSize());
+    List<Long> ids = new ArrayList<>(pageable.getPageSize());
+    for (long i = pageable.getOffset(); i < end; i++) {
+      int rank = (int) (ascending ? i : total - 1 - i);
+      ids.add(Integer.toUnsignedLong(result.select(rank)));
+    }
+    return new PageImpl<>(ids, pageable, total);
+  }
+
+  /** The bitmaps and per-blog creation times; guarded by the index's lock once published. */
+  private static final class Bitmaps {
+
+    private final RoaringBitmap all = new RoaringBitmap();
+    private final Map<Long, RoaringBitmap> byTag = new HashMap<>();
+    private final Map<String, RoaringBitmap> byAuthor = new HashMap<>();
+    private final NavigableMap<Long, Day> byDay = new TreeMap<>();
+
+    void addBlog(int blogId, String authorUsername, long createdAtMillis) {
+      all.add(blogId);
+      byAuthor
+          .computeIfAbsent(authorUsername.toLowerCase(Locale.ROOT), k -> new RoaringBitmap())
+          .add(blogId);
+      long day = Math.floorDiv(createdAtMillis, DAY_MILLIS);
+      byDay
+          .computeIfAbsent(day, k -> new Day())
+          .add(blogId, (int) (createdAtMillis - day * DAY_MILLIS));
+    }
+
+    void addTag(int blogId, Long tagId) {
+      byTag.computeIfAbsent(tagId, k -> new RoaringBitmap()).add(blogId);
+    }
+
+    void removeTag(int blogId, Long tagId) {
+      RoaringBitmap blogs = byTag.get(tagId);
+      if (blogs != null) {
+        blogs.remove(blogId);
+      }
+    }
+
+    /** Union of the days in the range; only the two boundary days are checked blog by blog. */
+    RoaringBitmap createdBetween(Instant from, Instant to) {
+      long fromMillis = from != null ? from.toEpochMilli() : Long.MIN_VALUE;
+      long toMillis = to != null ? to.toEpochMilli() : Long.MAX_VALUE;
+      RoaringBitmap range = new RoaringBitmap();
+      if (fromMillis > toMillis) {
+        return range;
+      }
+      long fromDay = Math.floorDiv(fromMillis, DAY_MILLIS);
+      long toDay = Math.floorDiv(toMillis, DAY_MILLIS);
+      for (Map.Entry<Long, Day> day : byDay.subMap(fromDay, true, toDay, true).entrySet()) {
+        long dayStart = day.getKey() * DAY_MILLIS;
+        if (day.getKey() == fromDay || day.getKey() == toDay) {
+          day.getValue().addBetween(range, fromMillis - dayStart, toMillis - dayStart);
+        } else {
+          range.or(day.getValue().blogs);
+        }
+      }
+      return range;
+    }
+  }
+
+  /**
+   * The blogs created on one day with their time of day, which refines the boundary days of a
+   * range. Times are stored in blog ID order, so memory follows the number of blogs rather than the
+   * highest ID.
+   */
+  private static final class Day {
+
+    private final RoaringBitmap blogs = new RoaringBitmap();
+
+    /** Milliseconds since the start of the day, at the rank of the blog ID in {@link #blogs}. */
+    private int[] times = new int[8];
+
+    void add(int blogId, int millisOfDay) {
+      boolean present = blogs.contains(blogId);
+      blogs.add(blogId);
+      int index = (int) blogs.rank(blogId) - 1;
+      if (!present) {
+        int size = blogs.getCardinality();
+        if (size > times.length) {
+          times = Arrays.copyOf(times, times.length * 2);
+        }
+        System.arraycopy(times, index, times, index + 1, size - 1 - index);
+      }
+      times[index] = millisOfDay;
+    }
+
+    /** Adds the blogs created within the given milliseconds of the day, both inclusive. */
+    void addBetween(RoaringBitmap range, long fromMillis, long toMillis) {
+      IntIterator ids = blogs.getIntIterator();
+      for (int i = 0; ids.hasNext(); i++) {
+        int blogId = ids.next();
+        if (times[i] >= fromMillis && times[i] <= toMillis) {
+          range.add(blogId);
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,87 @@
+package com.huseynovvusal.springblogapi.service;
+
+import com.huseynovvusal.springblogapi.dto.response.BatchResultDto;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Splits the blog IDs of a batch like or bookmark request into those to write, those already in the
+ * requested state and those that do not exist. Request order is preserved and duplicates are
+ * dropped.
+ *
+ * @param pending IDs that need a write
+ * @param unchanged IDs already in the requested state
+ * @param notFound IDs that do not belong to an existing blog
+ */
+record BlogIdBatch(List<Long> pending, List<Long> unchanged, List<Long> notFound) {
+
+  /**
+   * Partitions the requested IDs.
+   *
+   * @param requested the IDs sent by the client
+   * @param existing the requested IDs that belong to existing blogs
+   * @param alreadyApplied the requested IDs already in the requested state
+   * @return the partitioned batch
+   */
+  static BlogIdBatch of(
+      Collection<Long> requested, Collection<Long> existing, Collection<Long> alreadyApplied) {
+    Set<Long> existingIds = new HashSet<>(existing);
+    Set<Long> appliedIds = new HashSet<>(alreadyApplied);
+    List<Long> pending = new ArrayList<>();
+    List<Long> unchanged = new ArrayList<>();
+    List<Long> notFound = new ArrayList<>();
+    for (Long id : new LinkedHashSet<>(requested)) {
+      if (appliedIds.contains(id)) {
+        unchanged.add(id);
+      } else if (existingIds.contains(id)) {
+        pending.add(id);
+      } else {
+        notFound.add(id);
+      }
+    }
+    return new BlogIdBatch(pending, unchanged, notFound);
+  }
+
+  /**
+   * Partitions the requested IDs of a removal. Blog existence is not checked: removing from a
+   * missing blog simply leaves it unchanged.
+   *
+   * @param requested the IDs sent by the client
+   * @param present the requested IDs that currently have a row to remove
+   * @return the partitioned batch
+   */
+  static BlogIdBatch forRemoval(Collection<Long> requested, Collection<Long> present) {
+    Set<Long> presentIds = new HashSet<>(present);
+    List<Long> pending = new ArrayList<>();
+    List<Long> unchanged = new ArrayList<>();
+    for (Long id : new LinkedHashSet<>(requested)) {
+      (presentIds.contains(id) ? pending : unchanged).add(id);
+    }
+    return new BlogIdBatch(pending, unchanged, List.of());
+  }
+
+  /**
+   * Applies the outcome of inserting the pending IDs. IDs whose row was skipped, because a
+   * concurrent request added it first, move to the unchanged ones.
+   *
+   * @param inserted per pending ID, 1 if its row was inserted and 0 if it was skipped
+   * @return the batch with only the inserted IDs left pending
+   */
+  BlogIdBatch withInserted(int[] inserted) {
+    List<Long> added = new ArrayList<>();
+    List<Long> skipped = new ArrayList<>(unchanged);
+    for (int i = 0; i < pending.size(); i++) {
+      (inserted[i] == 1 ? added : skipped).add(pending.get(i));
+    }
+    return new BlogIdBatch(added, skipped, notFound);
+  }
+
+  /** Returns the batch outcome once the pending IDs have been written. */
+  BatchResultDto toResult() {
+    return new BatchResultDto(pending, unchanged, notFound);
+  }
+}
@@ -0,0 +1,125 @@
+package com.huseynovvusal.springblogapi.service;
+
+import com.huseynovvusal.springblogapi.model.Blog;
+import com.huseynovvusal.springblogapi.repository.ApproximatePage;
+import com.huseynovvusal.springblogapi.repository.BlogRepository;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Turns a slice of blogs into a page by counting the matching rows with a bounded cost. Listings
+ * fetch their content as a {@link Slice} and call this component for the total, so the count
+ * strategy is chosen in one place ({@code blog.count.strategy}):
+ *
+ * <ul>
+ *   <li>{@code exact}: a full {@code count(*)}, as before.
+ *   <li>{@code capped}: counts at most {@code blog.count.cap} + 1 rows; larger results report the
+ *       cap as an approximate total ("10,000+").
+ *   <li>{@code estimate}: unfiltered listings use the PostgreSQL planner's row estimate for {@code
+ *       blogs}; filtered ones are capped.
+ * </ul>
+ *
+ * <p>Whatever the strategy, no count runs when the slice is the last page: the total is then the
+ * offset plus the page's size.
+ */
+@Slf4j
+@Component
+public class BlogPageCounter {
+
+  /** How totals of large results are computed. */
+  public enum Strategy {
+    EXACT,
+    CAPPED,
+    ESTIMATE
+  }
+
+  private static final String ESTIMATE_SQL =
+      "select cast(reltuples as bigint) from pg_class where relname = 'blogs'";
+
+  private final BlogRepository blogRepository;
+  private final JdbcTemplate jdbcTemplate;
+  private final Strategy strategy;
+  private final long cap;
+
+  public BlogPageCounter(
+      BlogRepository blogRepository,
+      JdbcTemplate jdbcTemplate,
+      @Value("${blog.count.strategy:exact}") Strategy strategy,
+      @Value("${blog.count.cap:10000}") long cap) {
+    this.blogRepository = blogRepository;
+    this.jdbcTemplate = jdbcTemplate;
+    this.strategy = strategy;
+    this.cap = cap;
+  }
+
+  /**
+   * Completes a slice of blogs matching a filter with its total.
+   *
+   * @param slice the fetched slice
+   * @param spec the filter the slice was fetched with
+   * @param <T> the element type
+   * @return the page, an {@link ApproximatePage} if the total is not exact
+   */
+  public <T> Page<T> toPage(Slice<T> slice, Specification<Blog> spec) {
+    return toPage(slice, spec, false);
+  }
+
+  /**
+   * Completes a slice of all blogs with its total.
+   *
+   * @param slice the fetched slice
+   * @param <T> the element type
+   * @return the page, an {@link ApproximatePage} if the total is not exact
+   */
+  public <T> Page<T> toPageOfAll(Slice<T> slice) {
+    return toPage(slice, BlogSpecifications.all(), true);
+  }
+
+  private <T> Page<T> toPage(Slice<T> slice, Specification<Blog> spec, boolean unfiltered) {
+    List<T> content = slice.getContent();
+    Pageable pageable = slice.getPageable();
+    long offset = pageable.isPaged() ? pageable.getOffset() : 0L;
+    if (!slice.hasNext() && (slice.hasContent() || offset == 0)) {
+      return new PageImpl<>(content, pageable, offset + content.size());
+    }
+    // A next page means at least one more row; a page past the end gives no lower bound
+    long minimum = slice.hasNext() ? offset + content.size() + 1 : 0L;
+
+    if (strategy == Strategy.ESTIMATE && unfiltered) {
+      Long estimate = estimateAll();
+      if (estimate != null) {
+        return new ApproximatePage<>(content, pageable, Math.max(estimate, minimum));
+      }
+    }
+    if (strategy == Strategy.EXACT) {
+      return new PageImpl<>(content, pageable, blogRepository.count(spec));
+    }
+
+    long counted = blogRepository.countUpTo(spec, cap + 1);
+    if (counted <= cap) {
+      return new PageImpl<>(content, pageable, counted);
+    }
+    return new ApproximatePage<>(content, pageable, Math.max(cap, minimum));
+  }
+
+  /** Returns the planner's row estimate of {@code blogs}, or null if unavailable. */
+  private Long estimateAll() {
+    try {
+      Long estimate = jdbcTemplate.queryForObject(ESTIMATE_SQL, Long.class);
+      // -1 until the table has been vacuumed or analyzed
+      return estimate != null && estimate >= 0 ? estimate : null;
+    } catch (DataAccessException e) {
+      log.debug("Row estimate unavailable, falling back to a capped count", e);
+      return null;
+    }
+  }
+}
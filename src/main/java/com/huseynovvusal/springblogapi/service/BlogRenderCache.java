@@ -0,0 +1,85 @@
+package com.huseynovvusal.springblogapi.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.huseynovvusal.springblogapi.converter.ResponseDtoSerializers;
+import com.huseynovvusal.springblogapi.dto.response.BlogResponseDto;
+import com.huseynovvusal.springblogapi.repository.BlogVersion;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Byte-bounded cache of rendered blog detail responses, keyed by blog ID and last modification
+ * time. Each entry holds the serialized JSON of everything except the live counters, so a popular
+ * post is served by appending {@code views} and {@code likeCount} to the cached bytes instead of
+ * rebuilding the DTO and re-escaping up to 50 KB of HTML on every hit.
+ *
+ * <p>Because the key includes the modification time, which also moves when the author's profile
+ * changes, an edited post or renamed author is rendered afresh and the stale entry simply ages out.
+ */
+@Slf4j
+@Component
+public class BlogRenderCache {
+
+  private final ObjectWriter staticPartWriter;
+  private final Cache<RenderKey, byte[]> cache;
+
+  public BlogRenderCache(
+      ObjectMapper objectMapper,
+      @Value("${blog.render-cache.max-bytes:67108864}") long maxBytes) {
+    this.staticPartWriter =
+        objectMapper
+            .writerFor(BlogResponseDto.class)
+            .withAttribute(ResponseDtoSerializers.BLOG_STATIC_PART, Boolean.TRUE);
+    this.cache =
+        Caffeine.newBuilder()
+            .maximumWeight(maxBytes)
+            .weigher((RenderKey key, byte[] value) -> value.length)
+            .build();
+  }
+
+  /**
+   * Returns the complete JSON body for a blog, rendering and caching its static part on a miss.
+   *
+   * @param version the blog's current version and view count
+   * @param likeCount the blog's current like count
+   * @param loader builds the DTO when the rendering is not cached
+   * @return the UTF-8 encoded JSON response body
+   */
+  public byte[] render(BlogVersion version, long likeCount, Supplier<BlogResponseDto> loader) {
+    RenderKey key = new RenderKey(version.id(), version.lastModified().getTime());
+    byte[] prefix =
+        cache.get(
+            key,
+            k -> {
+              log.debug("Rendering blog {} into cache", k.blogId());
+              return serializeStaticPart(loader.get());
+            });
+
+    byte[] suffix =
+        (",\"views\":" + version.views() + ",\"likeCount\":" + likeCount + "}")
+            .getBytes(StandardCharsets.UTF_8);
+    byte[] body = Arrays.copyOf(prefix, prefix.length + suffix.length);
+    System.arraycopy(suffix, 0, body, prefix.length, suffix.length);
+    return body;
+  }
+
+  /** Serializes the DTO without its counters and drops the closing brace so they can be added. */
+  private byte[] serializeStaticPart(BlogResponseDto dto) {
+    try {
+      byte[] json = staticPartWriter.writeValueAsBytes(dto);
+      return Arrays.copyOf(json, json.length - 1);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("Failed to render blog " + dto.getId(), e);
+    }
+  }
+
+  private record RenderKey(Long blogId, long lastModified) {}
+}
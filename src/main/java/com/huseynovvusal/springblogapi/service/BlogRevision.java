@@ -0,0 +1,32 @@
+package com.huseynovvusal.springblogapi.service;
+
+import com.huseynovvusal.springblogapi.repository.BlogVersion;
+
+/**
+ * Current revision of a blog post: its version projection plus the live like count. Carries
+ * everything needed to answer a conditional GET or to look up the cached rendering.
+ *
+ * @param version the blog's ID, last modification time and view count
+ * @param likeCount the blog's current like count
+ */
+public record BlogRevision(BlogVersion version, long likeCount) {
+
+  /**
+   * Returns a weak ETag for the blog. The view count is deliberately left out: it changes on every
+   * read, which would otherwise make conditional requests useless for the detail endpoint.
+   *
+   * @return the weak ETag value, including quotes
+   */
+  public String etag() {
+    return BlogEtags.forBlog(version, likeCount);
+  }
+
+  /**
+   * Returns the last modification time in epoch milliseconds, for the Last-Modified header.
+   *
+   * @return the last modification timestamp
+   */
+  public long lastModified() {
+    return version.lastModified().getTime();
+  }
+}
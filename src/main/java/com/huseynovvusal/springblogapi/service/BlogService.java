@@ -1,32 +1,49 @@
 package com.huseynovvusal.springblogapi.service;
 
+import static com.huseynovvusal.springblogapi.service.BlogSpecifications.all;
 import static com.huseynovvusal.springblogapi.service.BlogSpecifications.createdBetween;
-import static com.huseynovvusal.springblogapi.service.BlogSpecifications.hasAnyTag;
+import static com.huseynovvusal.springblogapi.service.BlogSpecifications.hasAnyTagId;
+import static com.huseynovvusal.springblogapi.service.BlogSpecifications.hasAuthor;
 import static com.huseynovvusal.springblogapi.service.BlogSpecifications.hasAuthorUsername;
 import static com.huseynovvusal.springblogapi.service.BlogSpecifications.tagContains;
 import static com.huseynovvusal.springblogapi.service.BlogSpecifications.textSearch;
 import static com.huseynovvusal.springblogapi.service.BlogSpecifications.titleContains;
 
 import com.huseynovvusal.springblogapi.dto.CreateBlog;
+import com.huseynovvusal.springblogapi.dto.response.AuthorStatsDto;
 import com.huseynovvusal.springblogapi.dto.response.BlogResponseDto;
 import com.huseynovvusal.springblogapi.mapper.BlogMapper;
+import com.huseynovvusal.springblogapi.model.AuthorStats;
 import com.huseynovvusal.springblogapi.model.Blog;
+import com.huseynovvusal.springblogapi.model.Tag;
 import com.huseynovvusal.springblogapi.model.User;
 import com.huseynovvusal.springblogapi.repository.BlogRepository;
-import com.huseynovvusal.springblogapi.repository.LikeRepository;
+import com.huseynovvusal.springblogapi.repository.BlogVersion;
 import com.huseynovvusal.springblogapi.security.RichTextSanitizer;
+import com.huseynovvusal.springblogapi.security.SanitizationResult;
 import java.time.Instant;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 /**
  * Service class for managing blog-related operations. Handles creation, retrieval, filtering, and
@@ -40,50 +57,132 @@ public class BlogService {
   private final BlogRepository blogRepository;
   private final UserService userService;
   private final RichTextSanitizer richTextSanitizer;
-  private final LikeRepository likeRepository;
+  private final LikeCounterService likeCounterService;
+  private final BlogRenderCache blogRenderCache;
+  private final TrendingService trendingService;
+  private final AuthorStatsService authorStatsService;
+  private final TagDictionary tagDictionary;
+  private final BlogFilterIndex blogFilterIndex;
+  private final TagStatsService tagStatsService;
+  private final BlogPageCounter blogPageCounter;
+  private final TransactionTemplate transactionTemplate;
 
   /**
-   * Retrieves all blogs with pagination.
+   * Retrieves all blogs with pagination. The total is computed by {@link BlogPageCounter} and may
+   * be approximate for large tables.
    *
    * @param pageable pagination and sorting information
    * @return a page of blog response DTOs
    */
   @Cacheable(value = "blogs", key = "#pageable")
+  @Transactional(readOnly = true)
   public Page<BlogResponseDto> getAllBlogs(Pageable pageable) {
     log.debug("Fetching all blogs with pagination: {}", pageable);
-    return blogRepository
-        .findAll(pageable)
-        .map(blog -> BlogMapper.toDto(blog, likeRepository.countByBlog_Id(blog.getId())));
+    return toDtos(blogPageCounter.toPageOfAll(blogRepository.findSlice(all(), pageable)));
   }
 
   /**
-   * Retrieves a blog by its ID and increments its view count.
-   *
-   * <p>CACHING DECISION: Caching is intentionally disabled (see commented @Cacheable annotation) to
-   * ensure view counts are always accurate. If caching were enabled, the result could be served
-   * from cache on subsequent calls, causing the increment logic to be skipped and returning a stale
-   * view count. Since view count accuracy is critical, we prioritize correctness over caching
-   * performance.
+   * Retrieves a blog by its ID as a ready-to-send JSON body and increments its view count.
    *
    * @param id the blog ID
-   * @return the corresponding blog response DTO with current view count
+   * @return the UTF-8 encoded JSON body of the blog response
    * @throws NoSuchElementException if the blog is not found
    */
+  @Transactional
+  public byte[] getRenderedById(Long id) {
+    return render(recordView(id));
+  }
 
-  // @Cacheable(value = "blog", key = "#id")
+  /**
+   * Records a view of the blog and returns its current revision. Only the version projection and
+   * the like count are loaded, which is enough to answer a conditional GET.
+   *
+   * <p>View counting is decoupled from rendering: the view is always recorded, even when the client
+   * already holds the current revision or the rendering is served from {@link BlogRenderCache}.
+   *
+   * @param id the blog ID
+   * @return the blog's current revision
+   * @throws NoSuchElementException if the blog is not found
+   */
   @Transactional
-  public BlogResponseDto getById(Long id) {
-    log.debug("Fetching blog by ID: {}", id);
+  public BlogRevision recordView(Long id) {
+    log.debug("Recording view of blog ID: {}", id);
     blogRepository.incrementViews(id);
-    Blog blog =
+    BlogVersion version =
         blogRepository
-            .findById(id)
+            .findVersionById(id)
             .orElseThrow(
                 () -> {
                   log.warn("Blog not found with ID: {}", id);
                   return new NoSuchElementException("Blog not found");
                 });
-    return BlogMapper.toDto(blog, likeRepository.countByBlog_Id(blog.getId()));
+    trendingService.recordView(id);
+    authorStatsService.recordView(id);
+    return new BlogRevision(version, likeCounterService.getCount(id));
+  }
+
+  /**
+   * Renders a blog revision as a JSON body. The serialized content comes from {@link
+   * BlogRenderCache}; the entity is fetched only when the rendering is missing.
+   *
+   * @param revision the revision returned by {@link #recordView(Long)}
+   * @return the UTF-8 encoded JSON body of the blog response
+   * @throws NoSuchElementException if the blog no longer exists
+   */
+  public byte[] render(BlogRevision revision) {
+    Long id = revision.version().id();
+    return blogRenderCache.render(
+        revision.version(),
+        revision.likeCount(),
+        () -> {
+          Blog blog = blogRepository.findWithAuthorById(id);
+          if (blog == null) {
+            throw new NoSuchElementException("Blog not found");
+          }
+          return BlogMapper.toDto(blog, revision.likeCount());
+        });
+  }
+
+  /** Maps a page of blogs to DTOs, resolving all like counts at once. */
+  private Page<BlogResponseDto> toDtos(Page<Blog> blogs) {
+    return blogs.map(toDto(blogs));
+  }
+
+  /** Maps a slice of blogs to DTOs, resolving all like counts at once. */
+  private Slice<BlogResponseDto> toDtos(Slice<Blog> blogs) {
+    return blogs.map(toDto(blogs));
+  }
+
+  private Function<Blog, BlogResponseDto> toDto(Slice<Blog> blogs) {
+    Map<Long, Long> likeCounts = likeCounterService.getCounts(blogs.map(Blog::getId).getContent());
+    return blog -> BlogMapper.toDto(blog, likeCounts.get(blog.getId()));
+  }
+
+  /**
+   * Retrieves the currently trending blogs from the precomputed ranking of {@link TrendingService}.
+   * Only the ranked blogs are loaded, in a single query.
+   *
+   * @param limit maximum number of blogs to return
+   * @return trending blogs, highest score first
+   */
+  @Transactional(readOnly = true)
+  public List<BlogResponseDto> getTrending(int limit) {
+    List<Long> ids = trendingService.top(limit);
+    if (ids.isEmpty()) {
+      return List.of();
+    }
+    Map<Long, Long> likeCounts = likeCounterService.getCounts(ids);
+    return findWithAuthorInOrder(ids).stream()
+        .map(blog -> BlogMapper.toDto(blog, likeCounts.get(blog.getId())))
+        .toList();
+  }
+
+  /** Loads blogs with their authors in one query, in the order of the given IDs. */
+  private List<Blog> findWithAuthorInOrder(List<Long> ids) {
+    Map<Long, Blog> blogs =
+        blogRepository.findWithAuthorByIdIn(ids).stream()
+            .collect(Collectors.toMap(Blog::getId, Function.identity()));
+    return ids.stream().map(blogs::get).filter(Objects::nonNull).toList();
   }
 
   /**
@@ -94,12 +193,28 @@ public class BlogService {
    * @return a page of blog response DTOs
    */
   @Cacheable(value = "blogsByAuthor", key = "{#username, #pageable}")
+  @Transactional(readOnly = true)
   public Page<BlogResponseDto> getByAuthor(String username, Pageable pageable) {
     log.debug("Fetching blogs by author: {}", username);
     User author = userService.getUserByUsername(username);
-    return blogRepository
-        .findByAuthor(author, pageable)
-        .map(blog -> BlogMapper.toDto(blog, likeRepository.countByBlog_Id(blog.getId())));
+    return toDtos(
+        blogPageCounter.toPage(blogRepository.findByAuthor(author, pageable), hasAuthor(author)));
+  }
+
+  /**
+   * Retrieves an author's precomputed post, view and like totals. Served from the {@code
+   * author_stats} row maintained by {@link AuthorStatsService}, so the cost does not grow with the
+   * number of posts or likes.
+   *
+   * @param username the author's username
+   * @return the author's statistics
+   */
+  public AuthorStatsDto getAuthorStats(String username) {
+    log.debug("Fetching statistics of author: {}", username);
+    User author = userService.getUserByUsername(username);
+    AuthorStats stats = authorStatsService.getStats(author.getId());
+    return new AuthorStatsDto(
+        author.getUsername(), stats.getPostCount(), stats.getTotalViews(), stats.getTotalLikes());
   }
 
   /**
@@ -117,22 +232,90 @@ public class BlogService {
 
     Blog blog = new Blog();
     blog.setTitle(request.getTitle());
-    String sanitized = richTextSanitizer.sanitize(request.getContent());
-    if (!sanitized.equals(request.getContent())) {
+    SanitizationResult sanitized = richTextSanitizer.sanitizeWithResult(request.getContent());
+    if (sanitized.modified()) {
       log.info("Content sanitized for user {}", currentUser.getUsername());
     }
 
-    blog.setContent(sanitized);
+    blog.setContent(sanitized.content());
     blog.setAuthor(currentUser);
+    blog.setTags(tagDictionary.getOrCreate(request.getTags()));
 
     Blog saved = blogRepository.save(blog);
+    authorStatsService.recordPost(currentUser.getId());
+    blogFilterIndex.onCreated(
+        saved.getId(), currentUser.getUsername(), saved.getCreatedAt(), tagIds(saved.getTags()));
+    tagStatsService.onTagsChanged(saved.getTags(), List.of());
     log.debug("Blog created with ID: {}", saved.getId());
 
-    return BlogMapper.toDto(blog, likeRepository.countByBlog_Id(blog.getId()));
+    return BlogMapper.toDto(blog, likeCounterService.getCount(blog.getId()));
+  }
+
+  /**
+   * Replaces the tags of a blog. Only the author may change them; unknown tags are created. Tag
+   * links that stay are left untouched, so only the difference is written to {@code blog_tags}.
+   *
+   * <p>Missing tags are committed before the blog's transaction starts, so the request never holds
+   * two connections at once.
+   *
+   * @param id the blog ID
+   * @param tagNames the new tag names
+   * @throws NoSuchElementException if the blog is not found
+   * @throws AccessDeniedException if the current user is not the author
+   */
+  @CacheEvict(
+      value = {"filteredBlogs", "searchBlogs"},
+      allEntries = true)
+  public void updateTags(Long id, List<String> tagNames) {
+    Set<Tag> requested = tagDictionary.getOrCreate(tagNames);
+    transactionTemplate.executeWithoutResult(status -> replaceTags(id, requested));
+  }
+
+  private void replaceTags(Long id, Set<Tag> requested) {
+    Blog blog =
+        blogRepository
+            .findById(id)
+            .orElseThrow(
+                () -> {
+                  log.warn("Blog not found with ID: {}", id);
+                  return new NoSuchElementException("Blog not found");
+                });
+    User currentUser = userService.getCurrentUser();
+    if (!blog.getAuthor().getId().equals(currentUser.getId())) {
+      log.warn("User {} attempted to change tags of blog {}", currentUser.getUsername(), id);
+      throw new AccessDeniedException("Only the author can change the tags of a blog");
+    }
+
+    Set<Long> before = tagIds(blog.getTags());
+    Set<Long> after = tagIds(requested);
+    blog.getTags().removeIf(tag -> !after.contains(tag.getId()));
+    requested.stream().filter(tag -> !before.contains(tag.getId())).forEach(blog.getTags()::add);
+
+    Set<Long> removed = new HashSet<>(before);
+    removed.removeAll(after);
+    Set<Long> added = new HashSet<>(after);
+    added.removeAll(before);
+    blogFilterIndex.onTagsChanged(id, removed, added);
+    tagStatsService.onTagsChanged(
+        requested.stream().filter(tag -> added.contains(tag.getId())).toList(), removed);
+    log.info("Tags of blog {} changed: {} removed, {} added", id, removed.size(), added.size());
+  }
+
+  private static Set<Long> tagIds(Collection<Tag> tags) {
+    return tags.stream().map(Tag::getId).collect(Collectors.toSet());
   }
 
   /**
-   * Filters blogs based on tags, author, creation date, and search query.
+   * Filters blogs based on tags, author, creation date, and search query. Tag names are resolved to
+   * IDs through {@link TagDictionary} up front, so the query matches {@code blog_tags} by ID
+   * instead of joining {@code tags}; if none of the requested tags exists the database is not
+   * queried at all.
+   *
+   * <p>Without a title query, and once {@link BlogFilterIndex} is enabled and built, the criteria
+   * are evaluated on in-memory bitmaps and only the blogs of the requested page are loaded.
+   *
+   * <p>With {@code withCount} false the total is not counted: one extra row is fetched instead to
+   * tell whether a next page exists, which keeps broad filters from paying for a full count.
    *
    * @param tags list of tag names
    * @param authorUsername author's username
@@ -140,19 +323,24 @@ public class BlogService {
    * @param createdTo end of creation date range
    * @param q search query for title
    * @param onlyPublished flag to filter published blogs (not yet implemented)
+   * @param withCount whether to count the total number of matches
    * @param pageable pagination information
-   * @return a page of filtered blog response DTOs
+   * @return a page of filtered blog response DTOs, or a slice without totals
    */
   @Cacheable(
       value = "filteredBlogs",
-      key = "{#tags, #authorUsername, #createdFrom, #createdTo, #q, #onlyPublished, #pageable}")
-  public Page<BlogResponseDto> filter(
+      key =
+          "{#tags, #authorUsername, #createdFrom, #createdTo, #q, #onlyPublished, #withCount,"
+              + " #pageable}")
+  @Transactional(readOnly = true)
+  public Slice<BlogResponseDto> filter(
       List<String> tags,
       String authorUsername,
       Instant createdFrom,
       Instant createdTo,
       String q,
       Boolean onlyPublished,
+      boolean withCount,
       Pageable pageable) {
     log.debug(
         "Filtering blogs with criteria - tags: {}, author: {}, from: {}, to: {}, query: {}",
@@ -162,32 +350,53 @@ public class BlogService {
         createdTo,
         q);
 
+    Set<Long> tagIds = null;
+    if (tags != null && !tags.isEmpty()) {
+      tagIds = tagDictionary.resolve(tags);
+      if (tagIds.isEmpty()) {
+        return Page.empty(pageable);
+      }
+    }
+
+    if ((q == null || q.isBlank()) && blogFilterIndex.supports(pageable)) {
+      Page<Long> ids =
+          blogFilterIndex.findIds(tagIds, authorUsername, createdFrom, createdTo, pageable);
+      List<Blog> blogs = findWithAuthorInOrder(ids.getContent());
+      return toDtos(new PageImpl<>(blogs, pageable, ids.getTotalElements()));
+    }
+
     Specification<Blog> spec =
         Specification.allOf(
             hasAuthorUsername(authorUsername),
             createdBetween(createdFrom, createdTo),
             titleContains(q),
-            hasAnyTag(tags));
+            hasAnyTagId(tagIds));
 
-    return blogRepository
-        .findAll(spec, pageable)
-        .map(blog -> BlogMapper.toDto(blog, likeRepository.countByBlog_Id(blog.getId())));
+    if (!withCount) {
+      return toDtos(blogRepository.findSlice(spec, pageable));
+    }
+    return toDtos(blogPageCounter.toPage(blogRepository.findSlice(spec, pageable), spec));
   }
 
   /**
    * Searches blogs based on a keyword present in title, content, or tags. Supports pagination and
-   * caching for better performance.
+   * caching for better performance. Without {@code withCount} no count query is issued.
    *
    * @param q search keyword
+   * @param withCount whether to count the total number of matches
    * @param pageable pagination and sorting information
-   * @return paginated list of matching blog responses
+   * @return paginated list of matching blog responses, or a slice without totals
    */
-  @Cacheable(value = "searchBlogs", key = "{#q,#pageable.pageNumber,#pageable.pageSize}")
-  public Page<BlogResponseDto> search(String q, Pageable pageable) {
+  @Cacheable(
+      value = "searchBlogs",
+      key = "{#q, #withCount, #pageable.pageNumber, #pageable.pageSize}")
+  @Transactional(readOnly = true)
+  public Slice<BlogResponseDto> search(String q, boolean withCount, Pageable pageable) {
     log.debug("Searching blogs with keyword: {}", q);
     Specification<Blog> spec = Specification.where(textSearch(q)).or(tagContains(q));
-    return blogRepository
-        .findAll(spec, pageable)
-        .map(blog -> BlogMapper.toDto(blog, likeRepository.countByBlog_Id(blog.getId())));
+    if (!withCount) {
+      return toDtos(blogRepository.findSlice(spec, pageable));
+    }
+    return toDtos(blogPageCounter.toPage(blogRepository.findSlice(spec, pageable), spec));
   }
 }
@@ -1,7 +1,11 @@
 package com.huseynovvusal.springblogapi.service;
 
 import com.huseynovvusal.springblogapi.model.Blog;
+import com.huseynovvusal.springblogapi.model.Tag;
+import com.huseynovvusal.springblogapi.model.User;
+import jakarta.persistence.criteria.Join;
 import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Subquery;
 import java.time.Instant;
 import java.util.Collection;
 import java.util.Date;
@@ -12,6 +16,15 @@ public final class BlogSpecifications {
 
   private BlogSpecifications() {}
 
+  /**
+   * Matches every blog.
+   *
+   * @return specification without a restriction
+   */
+  public static Specification<Blog> all() {
+    return (root, query, cb) -> null;
+  }
+
   /**
    * Filters blogs whose title contains the given query string (case-insensitive).
    *
@@ -29,20 +42,22 @@ public final class BlogSpecifications {
   }
 
   /**
-   * Filters blogs that have at least one of the specified tag names.
+   * Filters blogs that have at least one of the specified tag IDs. Uses a correlated EXISTS
+   * subquery on {@code blog_tags}, so each blog is matched at most once and neither the page nor
+   * the count query needs DISTINCT.
    *
-   * @param tagNames collection of tag names
+   * @param tagIds collection of tag IDs, as resolved by {@link TagDictionary}
    * @return specification for tag matching
    */
-  public static Specification<Blog> hasAnyTag(Collection<String> tagNames) {
+  public static Specification<Blog> hasAnyTagId(Collection<Long> tagIds) {
     return (root, query, cb) -> {
-      if (tagNames == null || tagNames.isEmpty()) {
+      if (tagIds == null || tagIds.isEmpty()) {
         return cb.conjunction();
       }
-      var tagsJoin = root.join("tags", JoinType.LEFT);
-      query.distinct(true);
-      var loweredTags = tagNames.stream().map(String::toLowerCase).toList();
-      return cb.lower(tagsJoin.get("name")).in(loweredTags);
+      Subquery<Integer> subquery = query.subquery(Integer.class);
+      Join<Blog, Tag> tags = subquery.correlate(root).join("tags");
+      subquery.select(cb.literal(1)).where(tags.get("id").in(tagIds));
+      return cb.exists(subquery);
     };
   }
 
@@ -62,6 +77,16 @@ public final class BlogSpecifications {
     };
   }
 
+  /**
+   * Filters blogs written by the given user, matching on the author's ID without a join.
+   *
+   * @param author the author
+   * @return specification for author matching
+   */
+  public static Specification<Blog> hasAuthor(User author) {
+    return (root, query, cb) -> cb.equal(root.get("author"), author);
+  }
+
   /**
    * Filters blogs created within the specified date range.
    *
@@ -108,7 +133,8 @@ public final class BlogSpecifications {
   }
 
   /**
-   * Creates a specification to search blogs by tag name.
+   * Creates a specification to search blogs by tag name. Uses a correlated EXISTS subquery, so a
+   * blog with several matching tags is returned once without DISTINCT.
    *
    * @param q keyword used for tag search
    * @return specification matching tags containing the keyword
@@ -118,11 +144,12 @@ public final class BlogSpecifications {
       if (q == null || q.isBlank()) {
         return cb.conjunction();
       }
-
-      query.distinct(true);
-
-      return cb.like(
-          cb.lower(root.join("tags", JoinType.LEFT).get("name")), "%" + q.toLowerCase() + "%");
+      Subquery<Integer> subquery = query.subquery(Integer.class);
+      Join<Blog, Tag> tags = subquery.correlate(root).join("tags");
+      subquery
+          .select(cb.literal(1))
+          .where(cb.like(cb.lower(tags.get("name")), "%" + q.toLowerCase() + "%"));
+      return cb.exists(subquery);
     };
   }
 }
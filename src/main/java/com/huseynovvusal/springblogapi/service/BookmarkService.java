@@ -1,20 +1,20 @@
 package com.huseynovvusal.springblogapi.service;
 
+import com.huseynovvusal.springblogapi.dto.response.BatchResultDto;
 import com.huseynovvusal.springblogapi.dto.response.BlogResponseDto;
 import com.huseynovvusal.springblogapi.exception.BlogNotFoundException;
 import com.huseynovvusal.springblogapi.mapper.BlogMapper;
 import com.huseynovvusal.springblogapi.model.Blog;
 import com.huseynovvusal.springblogapi.model.Bookmark;
-import com.huseynovvusal.springblogapi.model.User;
 import com.huseynovvusal.springblogapi.repository.BlogRepository;
 import com.huseynovvusal.springblogapi.repository.BookmarkRepository;
-import com.huseynovvusal.springblogapi.repository.LikeRepository;
-import jakarta.persistence.EntityManager;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -28,41 +28,28 @@ public class BookmarkService implements SecurityAwareService {
 
   private final BookmarkRepository bookmarkRepository;
   private final BlogRepository blogRepository;
-  private final EntityManager entityManager;
-  private final LikeRepository likeRepository;
+  private final LikeCounterService likeCounterService;
 
   /**
    * Adds a bookmark for the current user to the specified blog. Idempotent: does nothing if already
-   * bookmarked.
+   * bookmarked. Runs as a single insert-if-absent statement; only when it inserts nothing is the
+   * blog looked up to tell a missing blog from an existing bookmark.
    *
    * @param blogId the ID of the blog to bookmark
+   * @return true if a bookmark was added, false if it already existed
    * @throws BlogNotFoundException
    */
-  @Transactional
+  @Transactional(rollbackFor = BlogNotFoundException.class)
   @CacheEvict(value = "myBookmarks", key = "#root.target.currentUserId()")
-  public void addBookmark(Long blogId) throws BlogNotFoundException {
+  public boolean addBookmark(Long blogId) throws BlogNotFoundException {
     Long userId = currentUserId();
-
-    if (bookmarkRepository.existsByUser_IdAndBlog_Id(userId, blogId)) {
-      log.debug("Bookmark already exists for user {} and blog {}", userId, blogId);
-      return;
-    }
-
-    Blog blog =
-        blogRepository
-            .findById(blogId)
-            .orElseThrow(
-                () -> new BlogNotFoundException(String.format("Blog not found: %d", blogId)));
-
-    try {
-      User userRef = entityManager.getReference(User.class, userId); // avoids SELECT
-      bookmarkRepository.save(Bookmark.builder().user(userRef).blog(blog).build());
+    boolean inserted = insertIfAbsent(userId, blogId);
+    if (inserted) {
       log.info("Bookmark added for user {} and blog {}", userId, blogId);
-    } catch (DataIntegrityViolationException e) {
-      log.warn(
-          "Race condition detected while adding bookmark for user {} and blog {}", userId, blogId);
-      // Safe to ignore due to unique constraint
+    } else {
+      log.debug("Bookmark already exists for user {} and blog {}", userId, blogId);
     }
+    return inserted;
   }
 
   /**
@@ -78,6 +65,56 @@ public class BookmarkService implements SecurityAwareService {
     log.info("Bookmark removed for user {} and blog {}", userId, blogId);
   }
 
+  /**
+   * Bookmarks every given blog for the current user. Existing bookmarks and existing blogs are each
+   * resolved with one IN query, and the new bookmarks are inserted in a single JDBC batch. Rows
+   * added concurrently are skipped and reported as unchanged.
+   *
+   * @param blogIds the IDs of the blogs to bookmark
+   * @return which blogs were bookmarked, were already bookmarked, or do not exist
+   */
+  @Transactional
+  @CacheEvict(value = "myBookmarks", key = "#root.target.currentUserId()")
+  public BatchResultDto addBookmarks(Collection<Long> blogIds) {
+    Long userId = currentUserId();
+    BlogIdBatch batch =
+        BlogIdBatch.of(
+            blogIds,
+            blogRepository.findExistingIds(blogIds),
+            bookmarkRepository.findBookmarkedBlogIds(userId, blogIds));
+
+    if (!batch.pending().isEmpty()) {
+      batch = batch.withInserted(bookmarkRepository.insertAll(userId, batch.pending()));
+    }
+    log.info(
+        "Batch bookmark for user {}: {} added, {} unchanged, {} not found",
+        userId,
+        batch.pending().size(),
+        batch.unchanged().size(),
+        batch.notFound().size());
+    return batch.toResult();
+  }
+
+  /**
+   * Removes the current user's bookmarks of every given blog with one IN query and one bulk DELETE.
+   *
+   * @param blogIds the IDs of the blogs to unbookmark
+   * @return which blogs were unbookmarked and which were not bookmarked to begin with
+   */
+  @Transactional
+  @CacheEvict(value = "myBookmarks", key = "#root.target.currentUserId()")
+  public BatchResultDto removeBookmarks(Collection<Long> blogIds) {
+    Long userId = currentUserId();
+    BlogIdBatch batch =
+        BlogIdBatch.forRemoval(blogIds, bookmarkRepository.findBookmarkedBlogIds(userId, blogIds));
+
+    if (!batch.pending().isEmpty()) {
+      bookmarkRepository.deleteByUserIdAndBlogIds(userId, batch.pending());
+    }
+    log.info("Batch unbookmark for user {}: {} removed", userId, batch.pending().size());
+    return batch.toResult();
+  }
+
   /**
    * Checks if the current user has bookmarked the specified blog.
    *
@@ -91,32 +128,25 @@ public class BookmarkService implements SecurityAwareService {
   }
 
   /**
-   * Toggles the bookmark status for the current user on the specified blog.
+   * Toggles the bookmark status for the current user on the specified blog. Deletes first and
+   * inserts only when nothing was deleted, so no existence check is needed.
    *
    * @param blogId the ID of the blog
    * @return true if now bookmarked, false if unbookmarked
    * @throws BlogNotFoundException
    */
-  @Transactional
+  @Transactional(rollbackFor = BlogNotFoundException.class)
   @CacheEvict(value = "myBookmarks", key = "#root.target.currentUserId()")
   public boolean toggle(Long blogId) throws BlogNotFoundException {
     Long userId = currentUserId();
 
-    if (bookmarkRepository.existsByUser_IdAndBlog_Id(userId, blogId)) {
-      bookmarkRepository.deleteByUser_IdAndBlog_Id(userId, blogId);
+    if (bookmarkRepository.deleteByUserIdAndBlogIds(userId, List.of(blogId)) > 0) {
       log.info("Bookmark toggled OFF for user {} and blog {}", userId, blogId);
       return false;
-    } else {
-      Blog blog =
-          blogRepository
-              .findById(blogId)
-              .orElseThrow(
-                  () -> new BlogNotFoundException(String.format("Blog not found: %d", blogId)));
-      User userRef = entityManager.getReference(User.class, userId);
-      bookmarkRepository.save(Bookmark.builder().user(userRef).blog(blog).build());
-      log.info("Bookmark toggled ON for user {} and blog {}", userId, blogId);
-      return true;
     }
+    insertIfAbsent(userId, blogId);
+    log.info("Bookmark toggled ON for user {} and blog {}", userId, blogId);
+    return true;
   }
 
   /**
@@ -129,9 +159,19 @@ public class BookmarkService implements SecurityAwareService {
   @Cacheable(value = "myBookmarks", key = "#root.target.currentUserId()")
   public Page<BlogResponseDto> listMyBookmarks(Pageable pageable) {
     Long userId = currentUserId();
-    return bookmarkRepository
-        .findAllByUser_Id(userId, pageable)
-        .map(Bookmark::getBlog)
-        .map(b -> BlogMapper.toDto(b, likeRepository.countByBlog_Id(b.getId())));
+    Page<Blog> blogs = bookmarkRepository.findAllByUser_Id(userId, pageable).map(Bookmark::getBlog);
+    Map<Long, Long> likeCounts = likeCounterService.getCounts(blogs.map(Blog::getId).getContent());
+    return blogs.map(b -> BlogMapper.toDto(b, likeCounts.get(b.getId())));
+  }
+
+  private boolean insertIfAbsent(Long userId, Long blogId) throws BlogNotFoundException {
+    if (bookmarkRepository.insertIfAbsent(userId, blogId) > 0) {
+      return true;
+    }
+    // Nothing inserted: either the bookmark already exists or the blog does not
+    if (!blogRepository.existsById(blogId)) {
+      throw new BlogNotFoundException(String.format("Blog not found: %d", blogId));
+    }
+    return false;
   }
 }
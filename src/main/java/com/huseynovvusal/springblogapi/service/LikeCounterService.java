@@ -0,0 +1,293 @@
+package com.huseynovvusal.springblogapi.service;
+
+import com.huseynovvusal.springblogapi.repository.BlogLikeCount;
+import com.huseynovvusal.springblogapi.repository.LikeRepository;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * In-memory like counts, so a viral post's likes neither hit a hot database row nor run a COUNT per
+ * read.
+ *
+ * <p>Each blog has a {@link LongAdder} of pending deltas, striped across cells under contention and
+ * lock-free, plus the count it was warmed with. Reads add the two; a blog is warmed lazily with
+ * {@link LikeRepository#countByBlog_Id(Long)} on its first read. Deltas are applied after the
+ * writing transaction commits and are flushed periodically to {@code blogs.like_count} in one JDBC
+ * batch.
+ *
+ * <p>Counters only live while their blog is in use: a flush drops every counter that was neither
+ * read nor changed since the previous flush and has nothing pending, so memory follows the set of
+ * recently active blogs rather than every blog ever read.
+ *
+ * <p>A delta whose commit overlaps a warm-up can be counted twice. The reconciliation pass
+ * recomputes {@code blogs.like_count} from the likes table and re-warms every counter on its next
+ * read, which corrects such drift.
+ */
+@Slf4j
+@Service
+public class LikeCounterService {
+
+  private static final String FLUSH_SQL =
+      "update blogs set like_count = like_count + ? where id = ?";
+
+  private static final String DRIFT_SQL =
+      "select b.id, (select count(*) from likes l where l.blog_id = b.id) from blogs b"
+          + " where b.like_count <> (select count(*) from likes l where l.blog_id = b.id)";
+
+  private static final String CORRECT_SQL = "update blogs set like_count = ? where id = ?";
+
+  private final LikeRepository likeRepository;
+  private final JdbcTemplate jdbcTemplate;
+
+  /** Repeatable-read transaction, so the drift is computed from one snapshot. */
+  private final TransactionTemplate snapshotTransaction;
+
+  private final Map<Long, Counter> counters = new ConcurrentHashMap<>();
+
+  /** Held by flushes and reconciliations, so they never interleave. */
+  private final Lock flushLock = new ReentrantLock();
+
+  /**
+   * Read side held by transactions changing likes, from their commit until the delta is pending;
+   * write side held by a reconciliation while it drains the deltas and takes its snapshot.
+   */
+  private final ReadWriteLock commitLock = new ReentrantReadWriteLock();
+
+  public LikeCounterService(
+      LikeRepository likeRepository,
+      JdbcTemplate jdbcTemplate,
+      PlatformTransactionManager transactionManager) {
+    this.likeRepository = likeRepository;
+    this.jdbcTemplate = jdbcTemplate;
+    this.snapshotTransaction = new TransactionTemplate(transactionManager);
+    this.snapshotTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+  }
+
+  /**
+   * Returns the current like count of a blog, warming its counter on first use.
+   *
+   * @param blogId the blog ID
+   * @return the number of likes
+   */
+  public long getCount(Long blogId) {
+    Counter counter = counter(blogId);
+    if (!counter.warm) {
+      counter.warm(likeRepository.countByBlog_Id(blogId));
+    }
+    return counter.value();
+  }
+
+  /**
+   * Returns the like counts of several blogs. Cold counters are warmed with one grouped query.
+   *
+   * @param blogIds the blog IDs
+   * @return like count per blog ID
+   */
+  public Map<Long, Long> getCounts(Collection<Long> blogIds) {
+    List<Long> cold = new ArrayList<>();
+    for (Long id : blogIds) {
+      if (!counter(id).warm) {
+        cold.add(id);
+      }
+    }
+    if (!cold.isEmpty()) {
+      Map<Long, Long> loaded = new HashMap<>();
+      for (BlogLikeCount count : likeRepository.countByBlogIds(cold)) {
+        loaded.put(count.blogId(), count.likeCount());
+      }
+      for (Long id : cold) {
+        counter(id).warm(loaded.getOrDefault(id, 0L));
+      }
+    }
+
+    Map<Long, Long> counts = new HashMap<>();
+    for (Long id : blogIds) {
+      counts.put(id, counter(id).value());
+    }
+    return counts;
+  }
+
+  /**
+   * Records a change of a blog's like count. Inside a transaction the delta is applied only once it
+   * commits, so rolled-back likes are never counted.
+   *
+   * @param blogId the blog ID
+   * @param delta the number of likes added (positive) or removed (negative)
+   */
+  public void applyDelta(Long blogId, long delta) {
+    if (delta == 0) {
+      return;
+    }
+    AfterCommit.run(commitLock.readLock(), () -> addPending(blogId, delta));
+  }
+
+  /**
+   * Writes pending deltas to {@code blogs.like_count} in a single JDBC batch, then drops the
+   * counters of blogs that were idle since the previous flush. Deltas that fail to persist are put
+   * back for the next flush.
+   */
+  @Scheduled(fixedDelayString = "${blog.like-counter.flush-interval-ms:5000}")
+  public void flush() {
+    flushLock.lock();
+    try {
+      drain();
+    } finally {
+      flushLock.unlock();
+    }
+  }
+
+  private void drain() {
+    Map<Long, Long> drained = new HashMap<>();
+    counters.forEach(
+        (id, counter) -> {
+          long delta = counter.pending.sumThenReset();
+          if (delta != 0) {
+            counter.base.addAndGet(delta);
+            drained.put(id, delta);
+          }
+        });
+    if (!drained.isEmpty()) {
+      write(drained);
+    }
+    evictIdle();
+  }
+
+  private void write(Map<Long, Long> drained) {
+    try {
+      jdbcTemplate.batchUpdate(
+          FLUSH_SQL,
+          drained.entrySet(),
+          drained.size(),
+          (ps, entry) -> {
+            ps.setLong(1, entry.getValue());
+            ps.setLong(2, entry.getKey());
+          });
+      log.debug("Flushed like count deltas of {} blogs", drained.size());
+    } catch (DataAccessException e) {
+      log.warn("Failed to flush like counts of {} blogs, will retry", drained.size(), e);
+      drained.forEach(
+          (id, delta) -> {
+            counter(id).base.addAndGet(-delta);
+            addPending(id, delta);
+          });
+    }
+  }
+
+  /** Removes counters that were not used since the previous flush and hold no pending delta. */
+  private void evictIdle() {
+    int before = counters.size();
+    for (Long id : counters.keySet()) {
+      counters.computeIfPresent(id, (key, counter) -> counter.retain() ? counter : null);
+    }
+    log.trace("Evicted {} idle like counters", before - counters.size());
+  }
+
+  /**
+   * Recomputes every blog's stored like count from the likes table and marks all counters cold, so
+   * the next read re-warms them from an exact count.
+   *
+   * <p>Pending deltas are drained and discarded instead of flushed: the recompute already includes
+   * them. They are drained and the recompute's snapshot taken while no like can commit, so every
+   * delta is either discarded and part of the snapshot, or kept for the next flush and missing from
+   * it. Drifted counts are read in that snapshot and written afterwards, so concurrent view updates
+   * of the same rows cannot fail the recompute; flushes wait until it is done.
+   */
+  @Scheduled(
+      fixedDelayString = "${blog.like-counter.reconcile-interval-ms:3600000}",
+      initialDelayString = "${blog.like-counter.reconcile-interval-ms:3600000}")
+  public void reconcile() {
+    flushLock.lock();
+    try {
+      List<Object[]> corrections =
+          snapshotTransaction.execute(
+              status -> {
+                commitLock.writeLock().lock();
+                try {
+                  counters
+                      .values()
+                      .forEach(
+                          counter -> {
+                            counter.base.addAndGet(counter.pending.sumThenReset());
+                            counter.warm = false;
+                          });
+                  // The first statement fixes the transaction's snapshot
+                  jdbcTemplate.queryForObject("select 1", Integer.class);
+                } finally {
+                  commitLock.writeLock().unlock();
+                }
+                return jdbcTemplate.query(
+                    DRIFT_SQL, (rs, rowNum) -> new Object[] {rs.getLong(2), rs.getLong(1)});
+              });
+      if (corrections != null && !corrections.isEmpty()) {
+        jdbcTemplate.batchUpdate(CORRECT_SQL, corrections);
+        log.info("Reconciled stored like counts of {} blogs", corrections.size());
+      }
+    } finally {
+      flushLock.unlock();
+    }
+  }
+
+  private Counter counter(Long blogId) {
+    Counter counter = counters.computeIfAbsent(blogId, id -> new Counter());
+    counter.used = true;
+    return counter;
+  }
+
+  /** Adds a delta under the map's lock for the blog, so it cannot land in an evicted counter. */
+  private void addPending(Long blogId, long delta) {
+    counters.compute(
+        blogId,
+        (id, counter) -> {
+          Counter target = counter != null ? counter : new Counter();
+          target.pending.add(delta);
+          target.used = true;
+          return target;
+        });
+  }
+
+  /** Like count of one blog: the warm-up count plus deltas, the unflushed ones kept apart. */
+  private static final class Counter {
+
+    private final LongAdder pending = new LongAdder();
+    private final AtomicLong base = new AtomicLong();
+    private volatile boolean warm;
+    private volatile boolean used = true;
+
+    /** Sets the base so that the counter reads as {@code count}, the number of committed likes. */
+    void warm(long count) {
+      base.set(count - pending.sum());
+      warm = true;
+    }
+
+    long value() {
+      return base.get() + pending.sum();
+    }
+
+    /** Returns whether to keep the counter, and starts a new idle period if so. */
+    boolean retain() {
+      if (used || pending.sum() != 0) {
+        used = false;
+        return true;
+      }
+      return false;
+    }
+  }
+}
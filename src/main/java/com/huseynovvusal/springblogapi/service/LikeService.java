@@ -1,17 +1,17 @@
 package com.huseynovvusal.springblogapi.service;
 
+import com.huseynovvusal.springblogapi.dto.response.BatchResultDto;
 import com.huseynovvusal.springblogapi.dto.response.LikeResponseDto;
+import com.huseynovvusal.springblogapi.dto.response.PageResponse;
 import com.huseynovvusal.springblogapi.dto.response.UserSummaryDto;
 import com.huseynovvusal.springblogapi.exception.BlogNotFoundException;
-import com.huseynovvusal.springblogapi.model.Blog;
 import com.huseynovvusal.springblogapi.model.Likes;
-import com.huseynovvusal.springblogapi.model.User;
 import com.huseynovvusal.springblogapi.repository.BlogRepository;
 import com.huseynovvusal.springblogapi.repository.LikeRepository;
-import jakarta.persistence.EntityManager;
+import java.util.Collection;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -25,48 +25,31 @@ public class LikeService implements SecurityAwareService {
 
   private final LikeRepository likeRepository;
   private final BlogRepository blogRepository;
-
-  /**
-   * EntityManager used to get a proxy reference to User by ID. Avoids an extra SELECT — only the FK
-   * value is needed when inserting a Like row.
-   */
-  private final EntityManager entityManager;
+  private final LikeCounterService likeCounterService;
+  private final TrendingService trendingService;
+  private final AuthorStatsService authorStatsService;
 
   /**
    * Adds a like for the current user on the specified blog. Idempotent — does nothing if the user
-   * already liked the post. Double-guarded: service-level existsBy check + DB unique constraint
-   * catch for race conditions.
+   * already liked the post. A single insert-if-absent statement replaces the existsBy check, blog
+   * lookup and INSERT; only when it inserts nothing is the blog looked up to tell a missing blog
+   * from an existing like.
    *
    * @param blogId the ID of the blog to like
+   * @return true if a like was added, false if the user had already liked the post
    * @throws BlogNotFoundException if the blog does not exist
    */
-  @Transactional
-  public void addLike(Long blogId) throws BlogNotFoundException {
+  @Transactional(rollbackFor = BlogNotFoundException.class)
+  public boolean addLike(Long blogId) throws BlogNotFoundException {
     Long userId = currentUserId();
-
-    // Happy path guard — avoids hitting DB constraint on normal duplicate attempts
-    if (likeRepository.existsByUser_IdAndBlog_Id(userId, blogId)) {
-      log.debug("Like already exists for user {} and blog {}", userId, blogId);
-      return;
-    }
-
-    // Verify blog exists before inserting
-    Blog blog =
-        blogRepository
-            .findById(blogId)
-            .orElseThrow(
-                () -> new BlogNotFoundException(String.format("Blog not found: %d", blogId)));
-
-    try {
-      // getReference avoids SELECT on users table — only FK value needed for insert
-      User userRef = entityManager.getReference(User.class, userId);
-      likeRepository.save(Likes.builder().user(userRef).blog(blog).build());
+    boolean inserted = insertIfAbsent(userId, blogId);
+    if (inserted) {
+      onLikesChanged(blogId, 1);
       log.info("Like added for user {} on blog {}", userId, blogId);
-    } catch (DataIntegrityViolationException e) {
-      // Two requests from the same user arrived simultaneously, both passed existsBy check
-      // DB unique constraint uk_user_blog_like caught the second insert — safe to ignore
-      log.warn("Race condition detected while adding like for user {} on blog {}", userId, blogId);
+    } else {
+      log.debug("Like already exists for user {} and blog {}", userId, blogId);
     }
+    return inserted;
   }
 
   /**
@@ -78,39 +61,89 @@ public class LikeService implements SecurityAwareService {
   @Transactional
   public void removeLike(Long blogId) {
     Long userId = currentUserId();
-    likeRepository.deleteByUser_IdAndBlog_Id(userId, blogId);
-    log.info("Like removed for user {} on blog {}", userId, blogId);
+    long deleted = likeRepository.deleteByUser_IdAndBlog_Id(userId, blogId);
+    if (deleted > 0) {
+      onLikesChanged(blogId, (int) -deleted);
+      log.info("Like removed for user {} on blog {}", userId, blogId);
+    } else {
+      log.debug("No like to remove for user {} on blog {}", userId, blogId);
+    }
+  }
+
+  /**
+   * Likes every given blog for the current user. Existing likes and existing blogs are each
+   * resolved with one IN query, and the new likes are inserted in a single JDBC batch that skips
+   * rows added concurrently; those are reported as unchanged.
+   *
+   * @param blogIds the IDs of the blogs to like
+   * @return which blogs were liked, were already liked, or do not exist
+   */
+  @Transactional
+  public BatchResultDto addLikes(Collection<Long> blogIds) {
+    Long userId = currentUserId();
+    BlogIdBatch batch =
+        BlogIdBatch.of(
+            blogIds,
+            blogRepository.findExistingIds(blogIds),
+            likeRepository.findLikedBlogIds(userId, blogIds));
+
+    if (!batch.pending().isEmpty()) {
+      batch = batch.withInserted(likeRepository.insertAll(userId, batch.pending()));
+      onLikesChanged(batch.pending(), 1);
+    }
+    log.info(
+        "Batch like for user {}: {} added, {} unchanged, {} not found",
+        userId,
+        batch.pending().size(),
+        batch.unchanged().size(),
+        batch.notFound().size());
+    return batch.toResult();
+  }
+
+  /**
+   * Removes the current user's likes from every given blog with one IN query and one bulk DELETE.
+   *
+   * @param blogIds the IDs of the blogs to unlike
+   * @return which blogs were unliked and which were not liked to begin with
+   */
+  @Transactional
+  public BatchResultDto removeLikes(Collection<Long> blogIds) {
+    Long userId = currentUserId();
+    BlogIdBatch batch =
+        BlogIdBatch.forRemoval(blogIds, likeRepository.findLikedBlogIds(userId, blogIds));
+
+    if (!batch.pending().isEmpty()) {
+      likeRepository.deleteByUserIdAndBlogIds(userId, batch.pending());
+      onLikesChanged(batch.pending(), -1);
+    }
+    log.info("Batch unlike for user {}: {} removed", userId, batch.pending().size());
+    return batch.toResult();
   }
 
   /**
    * Toggles the like status for the current user on the specified blog. If already liked — removes
-   * the like and returns false. If not liked — adds the like and returns true.
+   * the like and returns false. If not liked — adds the like and returns true. The delete runs
+   * first and the insert only when nothing was deleted, so no existence check is needed.
    *
    * @param blogId the ID of the blog to toggle like on
    * @return true if now liked, false if unliked
    * @throws BlogNotFoundException if the blog does not exist
    */
-  @Transactional
+  @Transactional(rollbackFor = BlogNotFoundException.class)
   public boolean toggle(Long blogId) throws BlogNotFoundException {
     Long userId = currentUserId();
 
-    if (likeRepository.existsByUser_IdAndBlog_Id(userId, blogId)) {
-      // Already liked — remove it
-      likeRepository.deleteByUser_IdAndBlog_Id(userId, blogId);
+    if (likeRepository.deleteByUserIdAndBlogIds(userId, List.of(blogId)) > 0) {
+      onLikesChanged(blogId, -1);
       log.info("Like toggled OFF for user {} on blog {}", userId, blogId);
       return false;
-    } else {
-      // Not liked yet — add it
-      Blog blog =
-          blogRepository
-              .findById(blogId)
-              .orElseThrow(
-                  () -> new BlogNotFoundException(String.format("Blog not found: %d", blogId)));
-      User userRef = entityManager.getReference(User.class, userId);
-      likeRepository.save(Likes.builder().user(userRef).blog(blog).build());
-      log.info("Like toggled ON for user {} on blog {}", userId, blogId);
-      return true;
     }
+    // A concurrent toggle may have inserted the row in between; either way it is now liked
+    if (insertIfAbsent(userId, blogId)) {
+      onLikesChanged(blogId, 1);
+    }
+    log.info("Like toggled ON for user {} on blog {}", userId, blogId);
+    return true;
   }
 
   /**
@@ -127,15 +160,14 @@ public class LikeService implements SecurityAwareService {
   }
 
   /**
-   * Returns the total like count for the specified blog. readOnly = true — only a COUNT query, no
-   * entity loading needed.
+   * Returns the total like count for the specified blog, served from the in-memory counters of
+   * {@link LikeCounterService}.
    *
    * @param blogId the ID of the blog
    * @return total number of likes
    */
-  @Transactional(readOnly = true)
   public long getLikeCount(Long blogId) {
-    return likeRepository.countByBlog_Id(blogId);
+    return likeCounterService.getCount(blogId);
   }
 
   /**
@@ -149,7 +181,7 @@ public class LikeService implements SecurityAwareService {
    */
   @Transactional(readOnly = true)
   public LikeResponseDto getLikes(Long blogId, Pageable pageable) {
-    long likeCount = likeRepository.countByBlog_Id(blogId);
+    long likeCount = likeCounterService.getCount(blogId);
 
     // Map each Like row's user to UserSummaryDto — minimal payload, no email exposed
     Page<UserSummaryDto> likedUsers =
@@ -161,6 +193,32 @@ public class LikeService implements SecurityAwareService {
                     new UserSummaryDto(
                         u.getId(), u.getUsername(), u.getFirstName(), u.getLastName()));
 
-    return new LikeResponseDto(likeCount, likedUsers.getContent());
+    return new LikeResponseDto(likeCount, PageResponse.of(likedUsers));
+  }
+
+  private boolean insertIfAbsent(Long userId, Long blogId) throws BlogNotFoundException {
+    if (likeRepository.insertIfAbsent(userId, blogId) > 0) {
+      return true;
+    }
+    // Nothing inserted: either the like already exists or the blog does not
+    if (!blogRepository.existsById(blogId)) {
+      throw new BlogNotFoundException(String.format("Blog not found: %d", blogId));
+    }
+    return false;
+  }
+
+  private void onLikesChanged(Long blogId, int delta) {
+    likeCounterService.applyDelta(blogId, delta);
+    trendingService.recordLike(blogId, delta);
+    authorStatsService.recordLikes(blogId, delta);
+  }
+
+  private void onLikesChanged(Collection<Long> blogIds, int delta) {
+    blogIds.forEach(
+        blogId -> {
+          likeCounterService.applyDelta(blogId, delta);
+          trendingService.recordLike(blogId, delta);
+        });
+    authorStatsService.recordLikes(blogIds, delta);
   }
 }
@@ -0,0 +1,164 @@
+package com.huseynovvusal.springblogapi.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Immutable prefix index over a set of names, answering "the most popular names starting with"
+ * queries. Names are kept in parallel arrays sorted by their lower-cased key, so the matches of a
+ * prefix are one contiguous range found by two binary searches. The best matches of every one- and
+ * two-character prefix are precomputed, since those ranges are too large to rank per keystroke.
+ *
+ * <p>Insertions return a new index sharing nothing with the old one, which lets readers use an
+ * index without locking while a writer swaps in the next version.
+ */
+final class PrefixIndex {
+
+  /** Upper bound for the number of suggestions per query. */
+  static final int MAX_SUGGESTIONS = 20;
+
+  private static final int CACHED_PREFIX_LENGTH = 2;
+
+  private final String[] keys;
+  private final String[] names;
+  private final long[] scores;
+  private final Map<String, String[]> topByShortPrefix;
+
+  private PrefixIndex(
+      String[] keys, String[] names, long[] scores, Map<String, String[]> topByShortPrefix) {
+    this.keys = keys;
+    this.names = names;
+    this.scores = scores;
+    this.topByShortPrefix = topByShortPrefix;
+  }
+
+  /**
+   * Builds an index from names and their popularity. Names that differ only in case keep the first
+   * one seen.
+   *
+   * @param scoresByName popularity of each name
+   * @return the index
+   */
+  static PrefixIndex of(Map<String, Long> scoresByName) {
+    Map<String, String> namesByKey = new HashMap<>();
+    scoresByName.keySet().forEach(name -> namesByKey.putIfAbsent(normalize(name), name));
+    String[] keys = namesByKey.keySet().toArray(String[]::new);
+    Arrays.sort(keys);
+
+    String[] names = new String[keys.length];
+    long[] scores = new long[keys.length];
+    for (int i = 0; i < keys.length; i++) {
+      names[i] = namesByKey.get(keys[i]);
+      scores[i] = scoresByName.get(names[i]);
+    }
+
+    PrefixIndex index = new PrefixIndex(keys, names, scores, new HashMap<>());
+    for (String key : keys) {
+      for (int length = 1; length <= Math.min(CACHED_PREFIX_LENGTH, key.length()); length++) {
+        index.topByShortPrefix.computeIfAbsent(key.substring(0, length), index::rank);
+      }
+    }
+    return index;
+  }
+
+  /** Returns the number of names in the index. */
+  int size() {
+    return keys.length;
+  }
+
+  /**
+   * Returns an index that also contains the given name with popularity zero, or this index if a
+   * name with the same key already exists.
+   *
+   * @param name the name to add
+   * @return the index containing the name
+   */
+  PrefixIndex with(String name) {
+    String key = normalize(name);
+    int position = Arrays.binarySearch(keys, key);
+    if (key.isEmpty() || position >= 0) {
+      return this;
+    }
+    int insertAt = -position - 1;
+    PrefixIndex index =
+        new PrefixIndex(
+            insert(keys, insertAt, key),
+            insert(names, insertAt, name),
+            insert(scores, insertAt),
+            new HashMap<>(topByShortPrefix));
+    for (int length = 1; length <= Math.min(CACHED_PREFIX_LENGTH, key.length()); length++) {
+      String prefix = key.substring(0, length);
+      index.topByShortPrefix.put(prefix, index.rank(prefix));
+    }
+    return index;
+  }
+
+  /**
+   * Returns the most popular names starting with the prefix, ignoring case. Ties are broken
+   * alphabetically.
+   *
+   * @param prefix the typed prefix
+   * @param limit maximum number of names, at most {@link #MAX_SUGGESTIONS}
+   * @return matching names, most popular first
+   */
+  List<String> suggest(String prefix, int limit) {
+    String key = normalize(prefix);
+    if (key.isEmpty()) {
+      return List.of();
+    }
+    String[] top =
+        key.length() <= CACHED_PREFIX_LENGTH
+            ? topByShortPrefix.getOrDefault(key, new String[0])
+            : rank(key);
+    return Arrays.asList(top).subList(0, Math.min(limit, top.length));
+  }
+
+  /** Ranks the names of a prefix range with a bounded heap. */
+  private String[] rank(String prefix) {
+    int from = lowerBound(prefix);
+    int to = lowerBound(prefix + Character.MAX_VALUE);
+    Comparator<Integer> byPopularity =
+        Comparator.<Integer>comparingLong(i -> scores[i]).reversed().thenComparing(i -> keys[i]);
+
+    PriorityQueue<Integer> best = new PriorityQueue<>(byPopularity.reversed());
+    for (int i = from; i < to; i++) {
+      best.add(i);
+      if (best.size() > MAX_SUGGESTIONS) {
+        best.poll();
+      }
+    }
+    List<Integer> ranked = new ArrayList<>(best);
+    ranked.sort(byPopularity);
+    return ranked.stream().map(i -> names[i]).toArray(String[]::new);
+  }
+
+  private int lowerBound(String key) {
+    int position = Arrays.binarySearch(keys, key);
+    return position >= 0 ? position : -position - 1;
+  }
+
+  private static String normalize(String name) {
+    return name.trim().toLowerCase(Locale.ROOT);
+  }
+
+  private static String[] insert(String[] array, int index, String value) {
+    String[] copy = new String[array.length + 1];
+    System.arraycopy(array, 0, copy, 0, index);
+    copy[index] = value;
+    System.arraycopy(array, index, copy, index + 1, array.length - index);
+    return copy;
+  }
+
+  private static long[] insert(long[] array, int index) {
+    long[] copy = new long[array.length + 1];
+    System.arraycopy(array, 0, copy, 0, index);
+    System.arraycopy(array, index, copy, index + 1, array.length - index);
+    return copy;
+  }
+}
@@ -0,0 +1,134 @@
+package com.huseynovvusal.springblogapi.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.huseynovvusal.springblogapi.model.Tag;
+import com.huseynovvusal.springblogapi.repository.TagRepository;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * In-memory dictionary of tags, mapping each normalized tag name to its ID. Loaded once at startup
+ * and extended as tags are created, so filtering by tag names resolves them to IDs without touching
+ * the {@code tags} table. Names missing from the dictionary, e.g. created by another instance, are
+ * looked up in the database once and then remembered. Names found in neither are remembered as
+ * unknown for a minute, so filters on nonexistent tags do not query the database every time.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TagDictionary {
+
+  private final TagRepository tagRepository;
+  private final AutocompleteService autocompleteService;
+
+  private final Map<String, Long> idsByName = new ConcurrentHashMap<>();
+  private final Cache<String, Boolean> unknownNames =
+      Caffeine.newBuilder().maximumSize(10_000).expireAfterWrite(1, TimeUnit.MINUTES).build();
+
+  /** Loads all existing tags into the dictionary. */
+  @EventListener(ApplicationReadyEvent.class)
+  public void load() {
+    tagRepository.findAll().forEach(this::register);
+    log.info("Loaded {} tags into the tag dictionary", idsByName.size());
+  }
+
+  /**
+   * Normalizes a tag name: trims surrounding whitespace and lower-cases it.
+   *
+   * @param name the raw tag name
+   * @return the normalized name
+   */
+  public static String normalize(String name) {
+    return name.trim().toLowerCase(Locale.ROOT);
+  }
+
+  /**
+   * Resolves tag names to IDs. Unknown names are skipped, since no blog can carry them.
+   *
+   * @param names raw tag names
+   * @return the IDs of the known tags, without duplicates
+   */
+  public Set<Long> resolve(Collection<String> names) {
+    Set<String> normalized = normalizeAll(names);
+    lookUpMissing(normalized);
+    return normalized.stream()
+        .map(idsByName::get)
+        .filter(Objects::nonNull)
+        .collect(Collectors.toCollection(LinkedHashSet::new));
+  }
+
+  /**
+   * Returns the tags with the given names, creating the missing ones. Tags are committed in their
+   * own transaction before they are added to the dictionary, so the dictionary never refers to a
+   * tag that was rolled back together with a failed blog insert. They are offered for typeahead
+   * once that transaction commits.
+   *
+   * @param names raw tag names
+   * @return references to the tags, one per distinct normalized name
+   */
+  @Transactional(propagation = Propagation.REQUIRES_NEW)
+  public Set<Tag> getOrCreate(Collection<String> names) {
+    Set<String> normalized = normalizeAll(names);
+    List<String> missing = lookUpMissing(normalized);
+    if (!missing.isEmpty()) {
+      missing.forEach(tagRepository::insertIfAbsent);
+      tagRepository.findByNameIn(missing).forEach(this::register);
+      AfterCommit.run(() -> autocompleteService.addTags(missing));
+      log.info("Created tags {}", missing);
+    }
+    return normalized.stream()
+        .map(name -> Tag.builder().id(idsByName.get(name)).name(name).build())
+        .collect(Collectors.toCollection(LinkedHashSet::new));
+  }
+
+  /**
+   * Loads names absent from the dictionary from the database and returns those still missing. Names
+   * recently found unknown are not looked up again.
+   */
+  private List<String> lookUpMissing(Set<String> normalized) {
+    List<String> missing = normalized.stream().filter(n -> !idsByName.containsKey(n)).toList();
+    List<String> unchecked =
+        missing.stream().filter(n -> unknownNames.getIfPresent(n) == null).toList();
+    if (unchecked.isEmpty()) {
+      return missing;
+    }
+    tagRepository.findByNameIn(unchecked).forEach(this::register);
+    unchecked.stream()
+        .filter(n -> !idsByName.containsKey(n))
+        .forEach(n -> unknownNames.put(n, Boolean.TRUE));
+    return missing.stream().filter(n -> !idsByName.containsKey(n)).toList();
+  }
+
+  private void register(Tag tag) {
+    String name = normalize(tag.getName());
+    idsByName.putIfAbsent(name, tag.getId());
+    unknownNames.invalidate(name);
+  }
+
+  private static Set<String> normalizeAll(Collection<String> names) {
+    if (names == null) {
+      return Set.of();
+    }
+    return names.stream()
+        .filter(Objects::nonNull)
+        .map(TagDictionary::normalize)
+        .filter(name -> !name.isEmpty())
+        .collect(Collectors.toCollection(LinkedHashSet::new));
+  }
+}
@@ -0,0 +1,164 @@
+package com.huseynovvusal.springblogapi.service;
+
+import com.huseynovvusal.springblogapi.dto.response.TagCountDto;
+import com.huseynovvusal.springblogapi.model.Tag;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Per-tag post counts kept in memory, so tag navigation never runs a {@code GROUP BY} over {@code
+ * blog_tags}. Counts are loaded at startup, adjusted when blogs are created or retagged, and
+ * recomputed from {@code blog_tags} periodically to correct any drift.
+ *
+ * <p>The sorted ranking is rebuilt lazily on the first read after a change, so reads between
+ * changes only copy a prefix of a ready list. Every change bumps a version, and a ranking is
+ * published only if no change happened while it was built, so a slow rebuild never replaces a newer
+ * one.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TagStatsService {
+
+  private static final String COUNTS_SQL =
+      "select t.id, t.name, count(bt.blog_id) from tags t"
+          + " left join blog_tags bt on bt.tag_id = t.id group by t.id, t.name";
+
+  private static final Comparator<TagCountDto> RANKING =
+      Comparator.comparingLong(TagCountDto::getPostCount)
+          .reversed()
+          .thenComparing(TagCountDto::getName);
+
+  private final JdbcTemplate jdbcTemplate;
+
+  private volatile Map<Long, TagCounter> counters = new ConcurrentHashMap<>();
+  private final AtomicLong version = new AtomicLong();
+  private volatile Ranking ranking = new Ranking(0, List.of());
+
+  /**
+   * Returns the most used tags.
+   *
+   * @param limit maximum number of tags to return
+   * @return tags with their post counts, most used first; ties by name
+   */
+  public List<TagCountDto> top(int limit) {
+    Ranking current = ranking;
+    long changes = version.get();
+    if (current.version() != changes) {
+      current =
+          new Ranking(
+              changes,
+              counters.values().stream()
+                  .map(counter -> new TagCountDto(counter.name, counter.count.get()))
+                  .filter(tag -> tag.getPostCount() > 0)
+                  .sorted(RANKING)
+                  .toList());
+      if (version.get() == changes) {
+        ranking = current;
+      }
+    }
+    List<TagCountDto> sorted = current.tags();
+    return sorted.subList(0, Math.min(limit, sorted.size()));
+  }
+
+  /**
+   * Returns the post count of every known tag, including tags no blog carries anymore.
+   *
+   * @return post counts by tag name
+   */
+  public Map<String, Long> postCountsByName() {
+    Map<String, Long> counts = new HashMap<>();
+    counters.values().forEach(counter -> counts.put(counter.name, counter.count.get()));
+    return counts;
+  }
+
+  /**
+   * Adjusts counts after a blog gained or lost tags. Applied once the surrounding transaction
+   * commits, so a rolled-back change is never counted.
+   *
+   * @param added tags the blog gained
+   * @param removed IDs of the tags the blog lost
+   */
+  public void onTagsChanged(Collection<Tag> added, Collection<Long> removed) {
+    if (added.isEmpty() && removed.isEmpty()) {
+      return;
+    }
+    AfterCommit.run(
+        () -> {
+          added.forEach(
+              tag ->
+                  counters
+                      .computeIfAbsent(tag.getId(), id -> new TagCounter(tag.getName()))
+                      .count
+                      .incrementAndGet());
+          removed.forEach(
+              tagId -> {
+                TagCounter counter = counters.get(tagId);
+                if (counter != null) {
+                  counter.count.decrementAndGet();
+                }
+              });
+          version.incrementAndGet();
+        });
+  }
+
+  /** Loads the counts once the application is ready, before other listeners read them. */
+  @EventListener(ApplicationReadyEvent.class)
+  @Order(Ordered.HIGHEST_PRECEDENCE)
+  public void load() {
+    reconcile();
+  }
+
+  /**
+   * Recomputes every count from {@code blog_tags} with one grouped query and swaps the result in. A
+   * change committed while the query runs may be lost until the next pass.
+   */
+  @Scheduled(
+      initialDelayString = "${blog.tag-stats.reconcile-interval-ms:3600000}",
+      fixedDelayString = "${blog.tag-stats.reconcile-interval-ms:3600000}")
+  public void reconcile() {
+    Map<Long, TagCounter> loaded = new ConcurrentHashMap<>();
+    jdbcTemplate.query(
+        COUNTS_SQL,
+        rs -> {
+          TagCounter counter = new TagCounter(rs.getString(2));
+          counter.count.set(rs.getLong(3));
+          loaded.put(rs.getLong(1), counter);
+        });
+    counters = loaded;
+    version.incrementAndGet();
+    log.info("Reconciled post counts of {} tags", loaded.size());
+  }
+
+  /**
+   * Sorted tags together with the version of the counts they were built from.
+   *
+   * @param version the value of {@link #version} before the counts were read
+   * @param tags tags with at least one post, most used first
+   */
+  private record Ranking(long version, List<TagCountDto> tags) {}
+
+  /** Post count of one tag. */
+  private static final class TagCounter {
+    private final String name;
+    private final AtomicLong count = new AtomicLong();
+
+    TagCounter(String name) {
+      this.name = name;
+    }
+  }
+}
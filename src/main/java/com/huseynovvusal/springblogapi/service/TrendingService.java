@@ -0,0 +1,202 @@
+package com.huseynovvusal.springblogapi.service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Trending ranking built from in-memory activity instead of a GROUP BY over the likes table.
+ *
+ * <p>Every blog with recent activity has a ring buffer of hourly buckets covering the trending
+ * window, counting likes (net of unlikes) and views. A blog's score sums its buckets weighted by
+ * type and decayed exponentially with the bucket's age. The ranking is refreshed on a schedule:
+ * only blogs with new activity plus the previous shortlist are rescored, because exponential decay
+ * shrinks all other scores by the same factor and cannot reorder them.
+ *
+ * <p>Activity is not persisted, so the ranking restarts empty after a redeploy and fills up within
+ * the first hours of traffic.
+ */
+@Slf4j
+@Service
+public class TrendingService {
+
+  private final int windowHours;
+  private final double likeWeight;
+  private final double viewWeight;
+  private final int topK;
+  private final Clock clock;
+
+  /** Decay factor by bucket age in hours. */
+  private final double[] decay;
+
+  private final Map<Long, ActivityBuckets> activity = new ConcurrentHashMap<>();
+  private final Set<Long> dirty = ConcurrentHashMap.newKeySet();
+
+  /** Blogs rescored on every refresh besides the dirty ones; only touched by {@link #refresh()}. */
+  private List<Long> shortlist = List.of();
+
+  private volatile List<Long> ranking = List.of();
+
+  @Autowired
+  public TrendingService(
+      @Value("${blog.trending.window-hours:168}") int windowHours,
+      @Value("${blog.trending.half-life:24h}") Duration halfLife,
+      @Value("${blog.trending.like-weight:3.0}") double likeWeight,
+      @Value("${blog.trending.view-weight:1.0}") double viewWeight,
+      @Value("${blog.trending.top-k:100}") int topK) {
+    this(windowHours, halfLife, likeWeight, viewWeight, topK, Clock.systemUTC());
+  }
+
+  TrendingService(
+      int windowHours,
+      Duration halfLife,
+      double likeWeight,
+      double viewWeight,
+      int topK,
+      Clock clock) {
+    this.windowHours = windowHours;
+    this.likeWeight = likeWeight;
+    this.viewWeight = viewWeight;
+    this.topK = topK;
+    this.clock = clock;
+    this.decay = new double[windowHours];
+    double halfLifeHours = halfLife.toMinutes() / 60.0;
+    for (int age = 0; age < windowHours; age++) {
+      decay[age] = Math.pow(0.5, age / halfLifeHours);
+    }
+  }
+
+  /**
+   * Records likes added (positive delta) or removed (negative delta) for a blog. Inside a
+   * transaction the activity is recorded only once it commits.
+   *
+   * @param blogId the blog ID
+   * @param delta the change in likes
+   */
+  public void recordLike(Long blogId, int delta) {
+    AfterCommit.run(() -> record(blogId, delta, 0));
+  }
+
+  /**
+   * Records a view of a blog. Inside a transaction the view is recorded only once it commits.
+   *
+   * @param blogId the blog ID
+   */
+  public void recordView(Long blogId) {
+    AfterCommit.run(() -> record(blogId, 0, 1));
+  }
+
+  private void record(Long blogId, int likes, int views) {
+    buckets(blogId).add(currentHour(), likes, views);
+    dirty.add(blogId);
+  }
+
+  /**
+   * Returns the IDs of the highest-ranked blogs as of the last refresh.
+   *
+   * @param limit maximum number of IDs, capped at the configured top-K
+   * @return blog IDs in ranking order
+   */
+  public List<Long> top(int limit) {
+    List<Long> current = ranking;
+    return current.subList(0, Math.min(Math.max(limit, 0), current.size()));
+  }
+
+  /**
+   * Rescores blogs with new activity together with the previous shortlist, publishes the new top-K
+   * and drops buffers whose activity has left the window.
+   */
+  @Scheduled(fixedDelayString = "${blog.trending.refresh-interval-ms:60000}")
+  public void refresh() {
+    int now = currentHour();
+    Set<Long> candidates = new HashSet<>(shortlist);
+    for (Iterator<Long> it = dirty.iterator(); it.hasNext(); ) {
+      candidates.add(it.next());
+      it.remove();
+    }
+
+    List<Map.Entry<Long, Double>> scored = new ArrayList<>(candidates.size());
+    for (Long id : candidates) {
+      ActivityBuckets buckets = activity.get(id);
+      double score = buckets != null ? buckets.score(now) : 0;
+      if (score > 0) {
+        scored.add(Map.entry(id, score));
+      }
+    }
+    scored.sort(Map.Entry.<Long, Double>comparingByValue(Comparator.reverseOrder()));
+
+    // Keep twice the published size so a blog whose oldest bucket expires can be overtaken
+    List<Long> ids = scored.stream().map(Map.Entry::getKey).toList();
+    shortlist = ids.subList(0, Math.min(ids.size(), topK * 2));
+    ranking = ids.subList(0, Math.min(ids.size(), topK));
+
+    activity.values().removeIf(buckets -> now - buckets.lastHour >= windowHours);
+    log.debug(
+        "Trending ranking refreshed: {} candidates, {} blogs tracked",
+        candidates.size(),
+        activity.size());
+  }
+
+  private ActivityBuckets buckets(Long blogId) {
+    return activity.computeIfAbsent(blogId, id -> new ActivityBuckets(windowHours));
+  }
+
+  private int currentHour() {
+    return (int) TimeUnit.MILLISECONDS.toHours(clock.millis());
+  }
+
+  /**
+   * Ring buffer of hourly like and view counts. A slot is reused once its hour has left the window;
+   * an update racing with that reset may be lost, which is acceptable for a ranking.
+   */
+  private final class ActivityBuckets {
+
+    private final AtomicIntegerArray hours;
+    private final AtomicIntegerArray likes;
+    private final AtomicIntegerArray views;
+    private volatile int lastHour;
+
+    ActivityBuckets(int size) {
+      this.hours = new AtomicIntegerArray(size);
+      this.likes = new AtomicIntegerArray(size);
+      this.views = new AtomicIntegerArray(size);
+    }
+
+    void add(int hour, int likeDelta, int viewDelta) {
+      int slot = Math.floorMod(hour, hours.length());
+      int stamp = hours.get(slot);
+      if (stamp != hour && hours.compareAndSet(slot, stamp, hour)) {
+        likes.set(slot, 0);
+        views.set(slot, 0);
+      }
+      likes.addAndGet(slot, likeDelta);
+      views.addAndGet(slot, viewDelta);
+      lastHour = hour;
+    }
+
+    double score(int now) {
+      double score = 0;
+      for (int slot = 0; slot < hours.length(); slot++) {
+        int age = now - hours.get(slot);
+        if (age >= 0 && age < windowHours) {
+          score += (likeWeight * likes.get(slot) + viewWeight * views.get(slot)) * decay[age];
+        }
+      }
+      return score;
+    }
+  }
+}
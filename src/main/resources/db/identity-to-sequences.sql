@@ -0,0 +1,38 @@
+-- Moves blogs, likes, bookmarks, tags and users from identity columns to the sequences used by
+-- Hibernate's pooled-lo optimizer (blocks of 50 IDs per nextval()).
+--
+-- Run against PostgreSQL with the application stopped, before starting a version with sequence
+-- IDs (running instances hold blocks of IDs the script cannot see):
+--   psql -d spring_blog_db -f src/main/resources/db/identity-to-sequences.sql
+-- The script can be re-run. All tables stay locked until it commits, so no row can be inserted
+-- between dropping an identity and seeding its sequence.
+
+begin;
+
+create sequence if not exists blogs_seq increment by 50;
+create sequence if not exists likes_seq increment by 50;
+create sequence if not exists bookmarks_seq increment by 50;
+create sequence if not exists tags_seq increment by 50;
+create sequence if not exists users_seq increment by 50;
+
+-- Sequences created by an earlier start with ddl-auto may have a different increment
+alter sequence blogs_seq increment by 50 owned by blogs.id;
+alter sequence likes_seq increment by 50 owned by likes.id;
+alter sequence bookmarks_seq increment by 50 owned by bookmarks.id;
+alter sequence tags_seq increment by 50 owned by tags.id;
+alter sequence users_seq increment by 50 owned by users.id;
+
+alter table blogs alter column id drop identity if exists;
+alter table likes alter column id drop identity if exists;
+alter table bookmarks alter column id drop identity if exists;
+alter table tags alter column id drop identity if exists;
+alter table users alter column id drop identity if exists;
+
+-- The next nextval() returns max(id) + 1, the low end of the first new block
+select setval('blogs_seq', coalesce((select max(id) from blogs), 0) + 1, false);
+select setval('likes_seq', coalesce((select max(id) from likes), 0) + 1, false);
+select setval('bookmarks_seq', coalesce((select max(id) from bookmarks), 0) + 1, false);
+select setval('tags_seq', coalesce((select max(id) from tags), 0) + 1, false);
+select setval('users_seq', coalesce((select max(id) from users), 0) + 1, false);
+
+commit;
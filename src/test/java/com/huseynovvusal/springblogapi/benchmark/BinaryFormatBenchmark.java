@@ -0,0 +1,101 @@
+package com.huseynovvusal.springblogapi.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.huseynovvusal.springblogapi.converter.ResponseDtoSerializers;
+import com.huseynovvusal.springblogapi.dto.response.BlogResponseDto;
+import com.huseynovvusal.springblogapi.dto.response.PageResponse;
+import com.huseynovvusal.springblogapi.dto.response.UserSummaryDto;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Compares payload size and encode time of a 20-post blog page in JSON, CBOR and Smile, using the
+ * same tuned serializers the application registers. Run with {@code ./gradlew benchmark}.
+ */
+@Tag("benchmark")
+@DisplayName("Binary response format benchmark")
+class BinaryFormatBenchmark {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(BinaryFormatBenchmark.class);
+
+  private static final int PAGE_SIZE = 20;
+  private static final int WARMUP_ITERATIONS = 2_000;
+  private static final int MEASURED_ITERATIONS = 10_000;
+
+  @Test
+  @DisplayName("Binary formats should produce smaller payloads than JSON")
+  void compareFormats() throws Exception {
+    PageResponse<BlogResponseDto> page = samplePage();
+
+    int json = run("json", mapper(new JsonFactory()), page);
+    int cbor = run("cbor", mapper(new CBORFactory()), page);
+    int smile = run("smile", mapper(new SmileFactory()), page);
+
+    assertThat(cbor).isLessThan(json);
+    assertThat(smile).isLessThan(json);
+  }
+
+  private int run(String label, ObjectMapper mapper, PageResponse<BlogResponseDto> page)
+      throws Exception {
+    int size = 0;
+    for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+      size = mapper.writeValueAsBytes(page).length;
+    }
+
+    long start = System.nanoTime();
+    for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+      size = mapper.writeValueAsBytes(page).length;
+    }
+    long elapsedNanos = System.nanoTime() - start;
+
+    LOGGER.info(
+        "{}: {} bytes per page, {} us per encode ({} ms total)",
+        label,
+        size,
+        String.format("%.1f", elapsedNanos / 1_000.0 / MEASURED_ITERATIONS),
+        TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+    return size;
+  }
+
+  private static ObjectMapper mapper(JsonFactory factory) {
+    return new ObjectMapper(factory)
+        .registerModule(
+            new SimpleModule()
+                .addSerializer(new ResponseDtoSerializers.BlogResponseDtoSerializer())
+                .addSerializer(new ResponseDtoSerializers.UserSummaryDtoSerializer()));
+  }
+
+  /** A page of posts with typical body sizes; authors repeat, as they do on the home page. */
+  private static PageResponse<BlogResponseDto> samplePage() {
+    String paragraph = "<p>Spring Boot makes it easy to create stand-alone applications.</p>";
+    List<BlogResponseDto> blogs = new ArrayList<>();
+    for (int i = 0; i < PAGE_SIZE; i++) {
+      UserSummaryDto author =
+          new UserSummaryDto((long) i % 4, "author" + i % 4, "First" + i % 4, "Last" + i % 4);
+      blogs.add(
+          new BlogResponseDto(
+              (long) i,
+              "Post number " + i,
+              paragraph.repeat(20 + i),
+              new Date(1_700_000_000_000L + i),
+              new Date(1_700_000_100_000L + i),
+              author,
+              1_000L + i,
+              (long) i));
+    }
+    return new PageResponse<>(blogs, 0, PAGE_SIZE, 500L, 25, false, true);
+  }
+}
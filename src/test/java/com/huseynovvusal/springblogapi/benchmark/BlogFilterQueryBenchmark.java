@@ -0,0 +1,172 @@
+package com.huseynovvusal.springblogapi.benchmark;
+
+import static com.huseynovvusal.springblogapi.service.BlogSpecifications.hasAnyTagId;
+import static com.huseynovvusal.springblogapi.service.BlogSpecifications.tagContains;
+import static com.huseynovvusal.springblogapi.service.BlogSpecifications.textSearch;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.huseynovvusal.springblogapi.model.Blog;
+import com.huseynovvusal.springblogapi.repository.BlogRepository;
+import com.huseynovvusal.springblogapi.service.TagDictionary;
+import jakarta.persistence.criteria.JoinType;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Compares the previous DISTINCT-join tag predicates with the EXISTS subqueries used by {@code
+ * /blogs/filter}, and counted pages with count-less slices, on a seeded dataset of {@code
+ * benchmark.blogs} posts (default one million) with two tags each. Runs against the configured
+ * datasource, H2 unless {@code SPRING_DATASOURCE_URL} points elsewhere. Run with {@code ./gradlew
+ * benchmark}.
+ */
+@Tag("benchmark")
+@SpringBootTest
+@DisplayName("Blog filter query benchmark")
+class BlogFilterQueryBenchmark {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(BlogFilterQueryBenchmark.class);
+
+  private static final int BLOGS = Integer.getInteger("benchmark.blogs", 1_000_000);
+  private static final int AUTHORS = 1_000;
+  private static final int TAGS = 200;
+  private static final int CHUNK = 10_000;
+  private static final int WARMUP_ITERATIONS = 3;
+  private static final int MEASURED_ITERATIONS = 10;
+
+  private static final List<String> FILTER_TAGS = List.of("tag-1", "tag-2", "tag-3");
+  private static final Pageable PAGE = PageRequest.of(0, 20);
+
+  @Autowired private BlogRepository blogRepository;
+  @Autowired private JdbcTemplate jdbcTemplate;
+  @Autowired private TagDictionary tagDictionary;
+
+  @BeforeEach
+  void seed() {
+    Long existing = jdbcTemplate.queryForObject("select count(*) from blogs", Long.class);
+    if (existing != null && existing >= BLOGS) {
+      return;
+    }
+    long start = System.nanoTime();
+    jdbcTemplate.batchUpdate(
+        "insert into users (id, username, first_name, last_name, email, password, is_blocked, role)"
+            + " values (nextval('users_seq'), ?, 'Bench', 'Author', ?, 'x', false, 'USER')",
+        IntStream.range(0, AUTHORS)
+            .mapToObj(i -> new Object[] {"bench" + i, "bench" + i + "@example.com"})
+            .toList());
+    jdbcTemplate.batchUpdate(
+        "insert into tags (id, name) values (nextval('tags_seq'), ?)",
+        IntStream.range(0, TAGS).mapToObj(i -> new Object[] {"tag-" + i}).toList());
+    // Sequence-generated IDs are not consecutive, so authors are looked up rather than computed
+    List<Long> authorIds =
+        jdbcTemplate.queryForList(
+            "select id from users where username like 'bench%' order by id", Long.class);
+
+    Timestamp now = Timestamp.from(Instant.now());
+    for (int from = 0; from < BLOGS; from += CHUNK) {
+      List<Object[]> rows = new ArrayList<>(CHUNK);
+      for (int i = from; i < Math.min(BLOGS, from + CHUNK); i++) {
+        rows.add(new Object[] {"Post " + i, "Content " + i, authorIds.get(i % AUTHORS), now, now});
+      }
+      jdbcTemplate.batchUpdate(
+          "insert into blogs (id, title, content, author_id, created_at, updated_at, views)"
+              + " values (nextval('blogs_seq'), ?, ?, ?, ?, ?, 0)",
+          rows);
+    }
+    // Two distinct tags per blog, by position: mod(n, 200) and mod(7 * n + 3, 200) never coincide
+    for (String tagIndex : List.of("mod(b.n, " + TAGS + ")", "mod(7 * b.n + 3, " + TAGS + ")")) {
+      jdbcTemplate.update(
+          "insert into blog_tags (blog_id, tag_id) select b.id, t.id"
+              + " from (select id, row_number() over (order by id) as n from blogs) b"
+              + " join (select id, row_number() over (order by id) - 1 as n from tags"
+              + " where name like 'tag-%') t on t.n = "
+              + tagIndex);
+    }
+    LOGGER.info(
+        "Seeded {} blogs in {} s",
+        BLOGS,
+        TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start));
+  }
+
+  @Test
+  @DisplayName("EXISTS predicates and slices should not be slower than DISTINCT joins")
+  void compareTagFilters() {
+    // Resolved like BlogService.filter does before querying
+    Set<Long> tagIds = tagDictionary.resolve(FILTER_TAGS);
+    assertThat(tagIds).hasSameSizeAs(FILTER_TAGS);
+    Page<Blog> distinct = blogRepository.findAll(legacyHasAnyTag(FILTER_TAGS), PAGE);
+    Page<Blog> exists = blogRepository.findAll(hasAnyTagId(tagIds), PAGE);
+    assertThat(exists.getTotalElements()).isEqualTo(distinct.getTotalElements());
+
+    long distinctMillis =
+        run(
+            "filter, DISTINCT join + count",
+            () -> blogRepository.findAll(legacyHasAnyTag(FILTER_TAGS), PAGE));
+    run("filter, EXISTS + count", () -> blogRepository.findAll(hasAnyTagId(tagIds), PAGE));
+    long sliceMillis =
+        run("filter, EXISTS slice", () -> blogRepository.findSlice(hasAnyTagId(tagIds), PAGE));
+
+    Specification<Blog> legacySearch =
+        Specification.where(textSearch("tag-7")).or(legacyTagContains("tag-7"));
+    Specification<Blog> search = Specification.where(textSearch("tag-7")).or(tagContains("tag-7"));
+    run("search, DISTINCT join + count", () -> blogRepository.findAll(legacySearch, PAGE));
+    run("search, EXISTS + count", () -> blogRepository.findAll(search, PAGE));
+    run("search, EXISTS slice", () -> blogRepository.findSlice(search, PAGE));
+
+    assertThat(sliceMillis).isLessThanOrEqualTo(distinctMillis);
+  }
+
+  /** Returns the median duration in milliseconds. */
+  private static long run(String label, Supplier<Slice<Blog>> query) {
+    for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+      query.get();
+    }
+    long[] millis = new long[MEASURED_ITERATIONS];
+    for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+      long start = System.nanoTime();
+      query.get();
+      millis[i] = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+    }
+    Arrays.sort(millis);
+    long median = millis[MEASURED_ITERATIONS / 2];
+    LOGGER.info("{}: median {} ms over {} blogs", label, median, BLOGS);
+    return median;
+  }
+
+  /** The tag-name predicate as it was before: a LEFT JOIN made unique with DISTINCT. */
+  private static Specification<Blog> legacyHasAnyTag(Collection<String> tagNames) {
+    return (root, query, cb) -> {
+      query.distinct(true);
+      return cb.lower(root.join("tags", JoinType.LEFT).get("name")).in(tagNames);
+    };
+  }
+
+  /** The tag search predicate as it was before. */
+  private static Specification<Blog> legacyTagContains(String q) {
+    return (root, query, cb) -> {
+      query.distinct(true);
+      return cb.like(cb.lower(root.join("tags", JoinType.LEFT).get("name")), "%" + q + "%");
+    };
+  }
+}
@@ -0,0 +1,210 @@
+package com.huseynovvusal.springblogapi.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.huseynovvusal.springblogapi.model.Blog;
+import com.huseynovvusal.springblogapi.model.Likes;
+import com.huseynovvusal.springblogapi.model.Role;
+import com.huseynovvusal.springblogapi.model.User;
+import com.huseynovvusal.springblogapi.repository.BlogRepository;
+import com.huseynovvusal.springblogapi.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.jpa.repository.support.SimpleJpaRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+
+/**
+ * Compares bulk {@link Likes} inserts through {@code saveAll} with IDENTITY keys, the mapping
+ * before the move to sequences, against pooled-lo sequence keys. Each variant gets its own
+ * Hibernate persistence unit on the configured datasource (H2 unless {@code SPRING_DATASOURCE_URL}
+ * points elsewhere) with {@code hibernate.jdbc.batch_size} 50 and ordered inserts, as in
+ * production. The IDENTITY variant maps {@code Likes} to a copy of the {@code likes} table with an
+ * identity column through {@code benchmark/identity-likes-orm.xml}. Run with {@code ./gradlew
+ * benchmark}.
+ */
+@Tag("benchmark")
+@SpringBootTest
+@DisplayName("Like insert benchmark")
+class LikeInsertBenchmark {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(LikeInsertBenchmark.class);
+
+  private static final int LIKES = Integer.getInteger("benchmark.likes", 100_000);
+  private static final int USERS = 100;
+  private static final int BATCH_SIZE = 50;
+
+  private static final String CREATE_IDENTITY_TABLE_SQL =
+      "create table likes_identity (id bigint generated by default as identity primary key,"
+          + " user_id bigint not null references users (id),"
+          + " blog_id bigint not null references blogs (id),"
+          + " created_at timestamp(6) with time zone not null, unique (user_id, blog_id))";
+
+  @Autowired private UserRepository userRepository;
+  @Autowired private BlogRepository blogRepository;
+  @Autowired private JdbcTemplate jdbcTemplate;
+  @Autowired private DataSource dataSource;
+
+  private EntityManagerFactory identityKeys;
+  private EntityManagerFactory sequenceKeys;
+
+  @BeforeEach
+  void setUp() {
+    jdbcTemplate.execute("drop table if exists likes_identity");
+    jdbcTemplate.execute(CREATE_IDENTITY_TABLE_SQL);
+    identityKeys = entityManagerFactory("benchmark/identity-likes-orm.xml");
+    sequenceKeys = entityManagerFactory();
+  }
+
+  @AfterEach
+  void tearDown() {
+    identityKeys.close();
+    sequenceKeys.close();
+    jdbcTemplate.execute("drop table if exists likes_identity");
+  }
+
+  @Test
+  @DisplayName("Sequence keys should let saveAll insert likes faster than IDENTITY keys")
+  void compareLikeInserts() {
+    String prefix = "likebench" + UUID.randomUUID().toString().substring(0, 8);
+    List<Long> userIds = seedUsers(prefix);
+
+    // Warm up both paths on their own rows before measuring
+    saveAll("IDENTITY", identityKeys, userIds, seedBlogs(userIds.get(0), 10));
+    saveAll("pooled-lo sequence", sequenceKeys, userIds, seedBlogs(userIds.get(0), 10));
+
+    double before =
+        saveAll("IDENTITY", identityKeys, userIds, seedBlogs(userIds.get(0), LIKES / USERS));
+    double after =
+        saveAll(
+            "pooled-lo sequence", sequenceKeys, userIds, seedBlogs(userIds.get(0), LIKES / USERS));
+
+    LOGGER.info("Sequence/IDENTITY throughput ratio: {}", String.format("%.1fx", after / before));
+    assertThat(after).isGreaterThan(before);
+  }
+
+  /**
+   * Saves one like per user and blog through {@code saveAll}, one call per user, in a single
+   * transaction. The persistence context is flushed and cleared after each user.
+   */
+  private double saveAll(
+      String label, EntityManagerFactory factory, List<Long> userIds, List<Long> blogIds) {
+    return measure(
+        label,
+        userIds.size() * blogIds.size(),
+        () -> {
+          EntityManager entityManager = factory.createEntityManager();
+          try {
+            SimpleJpaRepository<Likes, Long> likes =
+                new SimpleJpaRepository<>(Likes.class, entityManager);
+            entityManager.getTransaction().begin();
+            for (Long userId : userIds) {
+              User user = entityManager.getReference(User.class, userId);
+              likes.saveAll(
+                  blogIds.stream()
+                      .map(
+                          blogId ->
+                              Likes.builder()
+                                  .user(user)
+                                  .blog(entityManager.getReference(Blog.class, blogId))
+                                  .build())
+                      .toList());
+              entityManager.flush();
+              entityManager.clear();
+            }
+            entityManager.getTransaction().commit();
+          } finally {
+            entityManager.close();
+          }
+        });
+  }
+
+  /** Builds a persistence unit over the application's entities with production batch settings. */
+  private EntityManagerFactory entityManagerFactory(String... mappingResources) {
+    LocalContainerEntityManagerFactoryBean factory = new LocalContainerEntityManagerFactoryBean();
+    factory.setDataSource(dataSource);
+    factory.setPackagesToScan(Likes.class.getPackageName());
+    factory.setMappingResources(mappingResources);
+    factory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+    factory.setJpaPropertyMap(
+        Map.of(
+            "hibernate.hbm2ddl.auto", "none",
+            "hibernate.jdbc.batch_size", BATCH_SIZE,
+            "hibernate.order_inserts", true,
+            "hibernate.id.optimizer.pooled.preferred", "pooled-lo"));
+    factory.setPersistenceUnitName("likeInsertBenchmark");
+    factory.afterPropertiesSet();
+    return factory.getObject();
+  }
+
+  /** Runs the inserts once and returns the throughput in rows per second. */
+  private static double measure(String label, int rows, Runnable inserts) {
+    long start = System.nanoTime();
+    inserts.run();
+    long elapsedNanos = System.nanoTime() - start;
+    double throughput = rows / (elapsedNanos / 1_000_000_000.0);
+    LOGGER.info(
+        "{}: {} likes in {} ms ({} rows/s)",
+        label,
+        rows,
+        TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+        String.format("%.0f", throughput));
+    return throughput;
+  }
+
+  private List<Long> seedUsers(String prefix) {
+    return userRepository
+        .saveAll(
+            IntStream.range(0, USERS)
+                .mapToObj(
+                    i -> {
+                      User user = new User();
+                      user.setUsername(prefix + "-" + i);
+                      user.setFirstName("Bench");
+                      user.setLastName("Liker");
+                      user.setEmail(prefix + "-" + i + "@example.com");
+                      user.setPassword("x");
+                      user.setRole(Role.USER);
+                      return user;
+                    })
+                .toList())
+        .stream()
+        .map(User::getId)
+        .toList();
+  }
+
+  private List<Long> seedBlogs(Long authorId, int count) {
+    User author = userRepository.getReferenceById(authorId);
+    return blogRepository
+        .saveAll(
+            IntStream.range(0, count)
+                .mapToObj(
+                    i -> {
+                      Blog blog = new Blog();
+                      blog.setTitle("Bench " + i);
+                      blog.setContent("Content " + i);
+                      blog.setAuthor(author);
+                      return blog;
+                    })
+                .toList())
+        .stream()
+        .map(Blog::getId)
+        .toList();
+  }
+}
@@ -0,0 +1,157 @@
+package com.huseynovvusal.springblogapi.benchmark;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.huseynovvusal.springblogapi.SpringBlogApiApplication;
+import com.huseynovvusal.springblogapi.dto.CreateBlog;
+import com.huseynovvusal.springblogapi.dto.RegisterRequest;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Compares the throughput of {@code GET /blogs/{id}} served by Tomcat's platform-thread pool (200
+ * threads) and by virtual threads, under a spike of concurrent clients. Each mode starts the full
+ * application on a random port against the configured datasource, H2 unless {@code
+ * SPRING_DATASOURCE_URL} points elsewhere, so the request pays for security, the JDBC lookup and
+ * the view counter like in production. Run with {@code ./gradlew benchmark}.
+ */
+@Tag("benchmark")
+@DisplayName("Virtual thread throughput benchmark")
+class VirtualThreadThroughputBenchmark {
+
+  private static final Logger LOGGER =
+      LoggerFactory.getLogger(VirtualThreadThroughputBenchmark.class);
+
+  private static final int REQUESTS = 20_000;
+  private static final int WARMUP_REQUESTS = 2_000;
+  private static final int CONCURRENT_CLIENTS = 1_000;
+  private static final int PLATFORM_POOL_SIZE = 200;
+  private static final String CONTEXT_PATH = "/api/v1";
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  @Test
+  @DisplayName("Virtual threads should sustain a connection spike on a real endpoint")
+  void compareThroughput() throws Exception {
+    double platform = run(false);
+    double virtual = run(true);
+
+    LOGGER.info(
+        "Virtual/platform throughput ratio: {}", String.format("%.1fx", virtual / platform));
+  }
+
+  /** Starts the application in the given thread mode and measures the endpoint throughput. */
+  private double run(boolean virtualThreads) throws Exception {
+    String label = virtualThreads ? "virtual" : "platform(" + PLATFORM_POOL_SIZE + ")";
+    try (ConfigurableApplicationContext context = start(virtualThreads);
+        ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor();
+        HttpClient http = HttpClient.newBuilder().executor(clients).build()) {
+      int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+      String baseUrl = "http://localhost:" + port + CONTEXT_PATH;
+      String token = register(http, baseUrl, "bench-" + label.replaceAll("\\W", ""));
+      long blogId = createBlog(http, baseUrl, token);
+      HttpRequest request =
+          HttpRequest.newBuilder(URI.create(baseUrl + "/blogs/" + blogId))
+              .header("Authorization", "Bearer " + token)
+              .build();
+
+      send(http, clients, request, WARMUP_REQUESTS);
+      long start = System.nanoTime();
+      send(http, clients, request, REQUESTS);
+      long elapsedNanos = System.nanoTime() - start;
+
+      double throughput = REQUESTS / (elapsedNanos / 1_000_000_000.0);
+      LOGGER.info(
+          "{}: {} requests in {} ms ({} req/s)",
+          label,
+          REQUESTS,
+          TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+          String.format("%.0f", throughput));
+      return throughput;
+    }
+  }
+
+  /** Sends the request the given number of times, with at most {@link #CONCURRENT_CLIENTS} open. */
+  private static void send(HttpClient http, ExecutorService clients, HttpRequest request, int count)
+      throws InterruptedException {
+    Semaphore inFlight = new Semaphore(CONCURRENT_CLIENTS);
+    CountDownLatch done = new CountDownLatch(count);
+    AtomicInteger succeeded = new AtomicInteger();
+    for (int i = 0; i < count; i++) {
+      inFlight.acquire();
+      clients.execute(
+          () -> {
+            try {
+              if (http.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                succeeded.incrementAndGet();
+              }
+            } catch (Exception e) {
+              LOGGER.debug("Request failed", e);
+            } finally {
+              inFlight.release();
+              done.countDown();
+            }
+          });
+    }
+    done.await(5, TimeUnit.MINUTES);
+    assertEquals(count, succeeded.get());
+  }
+
+  private static ConfigurableApplicationContext start(boolean virtualThreads) {
+    return new SpringApplicationBuilder(SpringBlogApiApplication.class)
+        .properties(
+            "server.port=0",
+            "server.servlet.context-path=" + CONTEXT_PATH,
+            "server.tomcat.threads.max=" + PLATFORM_POOL_SIZE,
+            "server.tomcat.max-connections=" + (CONCURRENT_CLIENTS * 2),
+            "spring.threads.virtual.enabled=" + virtualThreads,
+            "resilience4j.ratelimiter.configs.default.limit-for-period=1000000",
+            "resilience4j.ratelimiter.configs.auth.limit-for-period=1000000")
+        .run();
+  }
+
+  private String register(HttpClient http, String baseUrl, String username) throws Exception {
+    RegisterRequest body =
+        new RegisterRequest("Bench", "Client", username, username + "@example.com", "Password123!");
+    String response = post(http, baseUrl + "/auth/register", null, body);
+    return objectMapper.readTree(response).get("token").asText();
+  }
+
+  private long createBlog(HttpClient http, String baseUrl, String token) throws Exception {
+    CreateBlog body = new CreateBlog("Benchmark post", "Content ".repeat(200), List.of());
+    String response = post(http, baseUrl + "/blogs", token, body);
+    return objectMapper.readTree(response).get("id").asLong();
+  }
+
+  private String post(HttpClient http, String url, String token, Object body) throws Exception {
+    HttpRequest.Builder request =
+        HttpRequest.newBuilder(URI.create(url))
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)));
+    if (token != null) {
+      request.header("Authorization", "Bearer " + token);
+    }
+    HttpResponse<String> response =
+        http.send(request.build(), HttpResponse.BodyHandlers.ofString());
+    assertEquals(200, response.statusCode(), response.body());
+    return response.body();
+  }
+}
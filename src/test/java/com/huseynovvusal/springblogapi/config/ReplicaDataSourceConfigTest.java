@@ -0,0 +1,106 @@
+package com.huseynovvusal.springblogapi.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.CannotGetJdbcConnectionException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Replica routing data source Tests")
+class ReplicaDataSourceConfigTest {
+
+  @Mock private JdbcTemplate lagQueries;
+
+  private ReplicaLagMonitor monitor;
+  private JdbcTemplate jdbcTemplate;
+  private TransactionTemplate readOnly;
+  private TransactionTemplate readWrite;
+
+  @BeforeEach
+  void setup() {
+    monitor = new ReplicaLagMonitor(lagQueries, Duration.ofSeconds(5));
+    DataSource routing =
+        ReplicaDataSourceConfig.routingDataSource(
+            database("primary"), database("replica"), monitor);
+    jdbcTemplate = new JdbcTemplate(routing);
+    DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(routing);
+    readOnly = new TransactionTemplate(transactionManager);
+    readOnly.setReadOnly(true);
+    readWrite = new TransactionTemplate(transactionManager);
+  }
+
+  @Test
+  @DisplayName("should read from the replica in read-only transactions and write to the primary")
+  void shouldRouteByReadOnlyFlag() {
+    when(lagQueries.queryForObject(anyString(), eq(Double.class))).thenReturn(0.2);
+    monitor.check();
+
+    assertThat(readOnly.execute(status -> node())).isEqualTo("replica");
+    assertThat(readWrite.execute(status -> node())).isEqualTo("primary");
+  }
+
+  @Test
+  @DisplayName("should fall back to the primary while the replica lags")
+  void shouldFallBackWhenLagging() {
+    when(lagQueries.queryForObject(anyString(), eq(Double.class))).thenReturn(30.0);
+    monitor.check();
+
+    assertThat(monitor.isReplicaUsable()).isFalse();
+    assertThat(readOnly.execute(status -> node())).isEqualTo("primary");
+  }
+
+  @Test
+  @DisplayName("should fall back to the primary when the replica is unreachable")
+  void shouldFallBackWhenUnreachable() {
+    when(lagQueries.queryForObject(anyString(), eq(Double.class)))
+        .thenThrow(new CannotGetJdbcConnectionException("replica down"));
+    monitor.check();
+
+    assertThat(monitor.getLagSeconds()).isNaN();
+    assertThat(readOnly.execute(status -> node())).isEqualTo("primary");
+  }
+
+  @Test
+  @DisplayName("should fall back to the primary when the replica stopped streaming")
+  void shouldFallBackWhenNotStreaming() {
+    when(lagQueries.queryForObject(anyString(), eq(Double.class))).thenReturn(null);
+    monitor.check();
+
+    ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+    verify(lagQueries).queryForObject(sql.capture(), eq(Double.class));
+    assertThat(sql.getValue()).contains("pg_stat_wal_receiver where status = 'streaming'");
+    assertThat(monitor.isReplicaUsable()).isFalse();
+    assertThat(monitor.getLagSeconds()).isNaN();
+    assertThat(readOnly.execute(status -> node())).isEqualTo("primary");
+  }
+
+  private String node() {
+    return jdbcTemplate.queryForObject("select name from node", String.class);
+  }
+
+  private static DataSource database(String name) {
+    DataSource dataSource =
+        new DriverManagerDataSource("jdbc:h2:mem:routing_" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+    JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+    jdbc.execute("create table if not exists node (name varchar(16))");
+    jdbc.execute("delete from node");
+    jdbc.update("insert into node (name) values (?)", name);
+    return dataSource;
+  }
+}
@@ -0,0 +1,156 @@
+package com.huseynovvusal.springblogapi.controller;
+
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.huseynovvusal.springblogapi.dto.response.BlogResponseDto;
+import com.huseynovvusal.springblogapi.dto.response.BlogViewerStateDto;
+import com.huseynovvusal.springblogapi.exception.RestExceptionHandler;
+import com.huseynovvusal.springblogapi.service.BlogService;
+import com.huseynovvusal.springblogapi.service.ViewerStateService;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.web.PageableHandlerMethodArgumentResolver;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BlogController Tests")
+class BlogControllerTest {
+
+  @Mock private BlogService blogService;
+  @Mock private ViewerStateService viewerStateService;
+
+  private MockMvc mockMvc;
+
+  @BeforeEach
+  void setUp() {
+    LocalValidatorFactoryBean validator = new LocalValidatorFactoryBean();
+    validator.afterPropertiesSet();
+    mockMvc =
+        MockMvcBuilders.standaloneSetup(new BlogController(blogService, viewerStateService))
+            .setControllerAdvice(new RestExceptionHandler())
+            .setCustomArgumentResolvers(new PageableHandlerMethodArgumentResolver())
+            .setValidator(validator)
+            .build();
+  }
+
+  @Test
+  @DisplayName("Should return viewer state for the requested blogs")
+  void viewerStateShouldReturnStates() throws Exception {
+    when(viewerStateService.getStates(List.of(1L, 2L)))
+        .thenReturn(
+            List.of(
+                new BlogViewerStateDto(1L, true, false), new BlogViewerStateDto(2L, false, true)));
+
+    mockMvc
+        .perform(get("/blogs/viewer-state").param("ids", "1", "2"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$[0].blogId").value(1))
+        .andExpect(jsonPath("$[0].liked").value(true))
+        .andExpect(jsonPath("$[1].bookmarked").value(true));
+  }
+
+  @Test
+  @DisplayName("Should reject an empty viewer state request with 400")
+  void viewerStateShouldRejectEmptyIds() throws Exception {
+    mockMvc
+        .perform(get("/blogs/viewer-state").param("ids", ""))
+        .andExpect(status().isBadRequest());
+
+    verify(viewerStateService, never()).getStates(anyCollection());
+  }
+
+  @Test
+  @DisplayName("Should reject more than 100 viewer state IDs with 400")
+  void viewerStateShouldRejectTooManyIds() throws Exception {
+    String ids =
+        LongStream.rangeClosed(1, 101).mapToObj(Long::toString).collect(Collectors.joining(","));
+
+    mockMvc
+        .perform(get("/blogs/viewer-state").param("ids", ids))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.message").value("Validation failed"))
+        .andExpect(jsonPath("$.fieldErrors.ids").exists());
+
+    verify(viewerStateService, never()).getStates(anyCollection());
+  }
+
+  @Test
+  @DisplayName("Should reject an out-of-range trending limit with 400")
+  void trendingShouldRejectInvalidLimit() throws Exception {
+    mockMvc
+        .perform(get("/blogs/trending").param("limit", "101"))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.fieldErrors.limit").exists());
+
+    verify(blogService, never()).getTrending(anyInt());
+  }
+
+  @Test
+  @DisplayName("Should skip the count and omit totals when filtering with count=false")
+  void filterWithoutCountShouldOmitTotals() throws Exception {
+    BlogResponseDto blog = new BlogResponseDto(1L, "Title", "Content", null, null, null, 0L, 0L);
+    when(blogService.filter(
+            eq(List.of("java")),
+            isNull(),
+            isNull(),
+            isNull(),
+            isNull(),
+            eq(false),
+            eq(false),
+            any(Pageable.class)))
+        .thenReturn(new SliceImpl<>(List.of(blog), Pageable.ofSize(1), true));
+
+    mockMvc
+        .perform(get("/blogs/filter").param("tags", "java").param("count", "false"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.content[0].id").value(1))
+        .andExpect(jsonPath("$.hasNext").value(true))
+        .andExpect(jsonPath("$.totalElements").doesNotExist())
+        .andExpect(jsonPath("$.totalPages").doesNotExist());
+  }
+
+  @Test
+  @DisplayName("Should answer an unchanged feed page with 304 even when view counts moved")
+  void getAllBlogsShouldReturnNotModifiedWhenOnlyViewsChanged() throws Exception {
+    BlogResponseDto blog = new BlogResponseDto(1L, "Title", "Content", null, null, null, 5L, 2L);
+    BlogResponseDto viewed = new BlogResponseDto(1L, "Title", "Content", null, null, null, 9L, 2L);
+    when(blogService.getAllBlogs(any(Pageable.class)))
+        .thenReturn(new PageImpl<>(List.of(blog)), new PageImpl<>(List.of(viewed)));
+
+    String etag =
+        mockMvc
+            .perform(get("/blogs"))
+            .andExpect(status().isOk())
+            .andExpect(header().exists("ETag"))
+            .andReturn()
+            .getResponse()
+            .getHeader("ETag");
+
+    mockMvc
+        .perform(get("/blogs").header("If-None-Match", etag))
+        .andExpect(status().isNotModified());
+  }
+}
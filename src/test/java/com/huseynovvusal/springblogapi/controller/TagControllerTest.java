@@ -0,0 +1,103 @@
+package com.huseynovvusal.springblogapi.controller;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.huseynovvusal.springblogapi.dto.response.TagCountDto;
+import com.huseynovvusal.springblogapi.exception.RestExceptionHandler;
+import com.huseynovvusal.springblogapi.service.AutocompleteService;
+import com.huseynovvusal.springblogapi.service.TagStatsService;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TagController Tests")
+class TagControllerTest {
+
+  @Mock private TagStatsService tagStatsService;
+  @Mock private AutocompleteService autocompleteService;
+
+  private MockMvc mockMvc;
+
+  @BeforeEach
+  void setUp() {
+    LocalValidatorFactoryBean validator = new LocalValidatorFactoryBean();
+    validator.afterPropertiesSet();
+    mockMvc =
+        MockMvcBuilders.standaloneSetup(new TagController(tagStatsService, autocompleteService))
+            .setControllerAdvice(new RestExceptionHandler())
+            .setValidator(validator)
+            .build();
+  }
+
+  @Test
+  @DisplayName("Should return the most used tags with their counts")
+  void tagCountsShouldReturnTopTags() throws Exception {
+    when(tagStatsService.top(50)).thenReturn(List.of(new TagCountDto("java", 12)));
+
+    mockMvc
+        .perform(get("/tags"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$[0].name").value("java"))
+        .andExpect(jsonPath("$[0].postCount").value(12));
+  }
+
+  @Test
+  @DisplayName("Should reject a tag count limit out of range with 400")
+  void tagCountsShouldRejectInvalidLimit() throws Exception {
+    mockMvc
+        .perform(get("/tags").param("limit", "501"))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.fieldErrors.limit").exists());
+
+    verify(tagStatsService, never()).top(anyInt());
+  }
+
+  @Test
+  @DisplayName("Should suggest tags for a prefix")
+  void suggestShouldReturnTags() throws Exception {
+    when(autocompleteService.suggestTags("ja", 5)).thenReturn(List.of("java", "javascript"));
+
+    mockMvc
+        .perform(get("/tags/suggest").param("prefix", "ja").param("limit", "5"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$[0]").value("java"))
+        .andExpect(jsonPath("$[1]").value("javascript"));
+  }
+
+  @Test
+  @DisplayName("Should reject a blank prefix with 400")
+  void suggestShouldRejectBlankPrefix() throws Exception {
+    mockMvc
+        .perform(get("/tags/suggest").param("prefix", " "))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.fieldErrors.prefix").exists());
+
+    verify(autocompleteService, never()).suggestTags(anyString(), anyInt());
+  }
+
+  @Test
+  @DisplayName("Should reject more than 20 suggestions with 400")
+  void suggestShouldRejectInvalidLimit() throws Exception {
+    mockMvc
+        .perform(get("/tags/suggest").param("prefix", "ja").param("limit", "21"))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.fieldErrors.limit").exists());
+
+    verify(autocompleteService, never()).suggestTags(anyString(), anyInt());
+  }
+}
@@ -5,12 +5,21 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.huseynovvusal.springblogapi.dto.response.UserResponseDto;
+import com.huseynovvusal.springblogapi.exception.RestExceptionHandler;
+import com.huseynovvusal.springblogapi.service.AutocompleteService;
 import com.huseynovvusal.springblogapi.service.UserService;
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -19,12 +28,16 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("UserController Tests")
 class UserControllerTest {
 
   @Mock private UserService userService;
+  @Mock private AutocompleteService autocompleteService;
 
   @InjectMocks private UserController userController;
 
@@ -104,4 +117,41 @@ class UserControllerTest {
         java.util.Arrays.stream(result.getClass().getDeclaredFields())
             .anyMatch(f -> f.getName().equals("password")));
   }
+
+  @Test
+  @DisplayName("Should suggest usernames for a prefix")
+  void testSuggestReturnsUsernames() throws Exception {
+    when(autocompleteService.suggestUsernames("jo", 10)).thenReturn(List.of("john_doe"));
+
+    suggestMockMvc()
+        .perform(get("/users/suggest").param("prefix", "jo"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$[0]").value("john_doe"));
+  }
+
+  @Test
+  @DisplayName("Should reject invalid suggestion parameters with 400")
+  void testSuggestRejectsInvalidParameters() throws Exception {
+    MockMvc mockMvc = suggestMockMvc();
+
+    mockMvc
+        .perform(get("/users/suggest").param("prefix", " "))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.fieldErrors.prefix").exists());
+    mockMvc
+        .perform(get("/users/suggest").param("prefix", "jo").param("limit", "0"))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.fieldErrors.limit").exists());
+
+    verify(autocompleteService, never()).suggestUsernames(anyString(), anyInt());
+  }
+
+  private MockMvc suggestMockMvc() {
+    LocalValidatorFactoryBean validator = new LocalValidatorFactoryBean();
+    validator.afterPropertiesSet();
+    return MockMvcBuilders.standaloneSetup(userController)
+        .setControllerAdvice(new RestExceptionHandler())
+        .setValidator(validator)
+        .build();
+  }
 }
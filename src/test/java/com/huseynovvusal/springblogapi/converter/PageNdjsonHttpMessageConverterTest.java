@@ -0,0 +1,54 @@
+package com.huseynovvusal.springblogapi.converter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.huseynovvusal.springblogapi.dto.response.PageResponse;
+import com.huseynovvusal.springblogapi.dto.response.UserSummaryDto;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+@DisplayName("PageNdjsonHttpMessageConverter Tests")
+class PageNdjsonHttpMessageConverterTest {
+
+  private final PageNdjsonHttpMessageConverter converter =
+      new PageNdjsonHttpMessageConverter(new ObjectMapper(), 1);
+
+  @Test
+  @DisplayName("Should write one JSON object per line with page metadata in headers")
+  void shouldWriteOneElementPerLine() throws Exception {
+    Page<UserSummaryDto> page =
+        new PageImpl<>(
+            List.of(
+                new UserSummaryDto(1L, "alice", "Alice", "A"),
+                new UserSummaryDto(2L, "bob", "Bob", "B")),
+            PageRequest.of(0, 2),
+            5);
+    MockHttpOutputMessage output = new MockHttpOutputMessage();
+
+    converter.write(PageResponse.of(page), MediaType.APPLICATION_NDJSON, output);
+
+    String[] lines = output.getBodyAsString(StandardCharsets.UTF_8).split("\n");
+    assertThat(lines).hasSize(2);
+    assertThat(lines[0]).startsWith("{").contains("\"username\":\"alice\"");
+    assertThat(lines[1]).startsWith("{").contains("\"username\":\"bob\"");
+    assertThat(output.getHeaders().getFirst("X-Total-Count")).isEqualTo("5");
+    assertThat(output.getHeaders().getFirst("X-Total-Pages")).isEqualTo("3");
+  }
+
+  @Test
+  @DisplayName("Should only handle pages requested as NDJSON")
+  void shouldOnlyHandleNdjsonPages() {
+    assertThat(converter.canWrite(PageResponse.class, MediaType.APPLICATION_NDJSON)).isTrue();
+    assertThat(converter.canWrite(PageResponse.class, MediaType.APPLICATION_JSON)).isFalse();
+    assertThat(converter.canWrite(String.class, MediaType.APPLICATION_NDJSON)).isFalse();
+    assertThat(converter.canRead(PageResponse.class, MediaType.APPLICATION_NDJSON)).isFalse();
+  }
+}
@@ -0,0 +1,59 @@
+package com.huseynovvusal.springblogapi.converter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.huseynovvusal.springblogapi.dto.response.BlogResponseDto;
+import com.huseynovvusal.springblogapi.dto.response.UserSummaryDto;
+import java.util.Date;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("ResponseDtoSerializers Tests")
+class ResponseDtoSerializersTest {
+
+  private final ObjectMapper defaultMapper = new ObjectMapper();
+  private final ObjectMapper tunedMapper =
+      new ObjectMapper()
+          .registerModule(
+              new SimpleModule()
+                  .addSerializer(new ResponseDtoSerializers.BlogResponseDtoSerializer())
+                  .addSerializer(new ResponseDtoSerializers.UserSummaryDtoSerializer()));
+
+  private final BlogResponseDto blog =
+      new BlogResponseDto(
+          1L,
+          "Title",
+          "<p>\"quoted\" & escaped</p>",
+          new Date(1_700_000_000_000L),
+          null,
+          new UserSummaryDto(2L, "author", "First", null),
+          10L,
+          3L);
+
+  @Test
+  @DisplayName("Should produce the same JSON as default bean serialization")
+  void shouldMatchDefaultSerialization() throws Exception {
+    JsonNode expected = defaultMapper.readTree(defaultMapper.writeValueAsString(blog));
+    JsonNode actual = tunedMapper.readTree(tunedMapper.writeValueAsString(blog));
+
+    assertThat(actual).isEqualTo(expected);
+  }
+
+  @Test
+  @DisplayName("Should omit the counters when the static part is requested")
+  void shouldOmitCountersForStaticPart() throws Exception {
+    String json =
+        tunedMapper
+            .writerFor(BlogResponseDto.class)
+            .withAttribute(ResponseDtoSerializers.BLOG_STATIC_PART, Boolean.TRUE)
+            .writeValueAsString(blog);
+
+    JsonNode node = tunedMapper.readTree(json);
+    assertThat(node.has("views")).isFalse();
+    assertThat(node.has("likeCount")).isFalse();
+    assertThat(node.get("author").get("username").asText()).isEqualTo("author");
+  }
+}
@@ -0,0 +1,43 @@
+package com.huseynovvusal.springblogapi.dto.response;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+
+@DisplayName("PageResponse Tests")
+class PageResponseTest {
+
+  @Test
+  @DisplayName("should carry the totals of a counted page")
+  void shouldCarryTotalsOfPage() {
+    PageResponse<String> response =
+        PageResponse.of(new PageImpl<>(List.of("a", "b"), PageRequest.of(0, 2), 5));
+
+    assertThat(response.getTotalElements()).isEqualTo(5L);
+    assertThat(response.getTotalPages()).isEqualTo(3);
+    assertThat(response.isHasNext()).isTrue();
+    assertThat(response.isTotalApproximate()).isFalse();
+  }
+
+  @Test
+  @DisplayName("should omit the totals of a slice and keep hasNext")
+  void shouldOmitTotalsOfSlice() {
+    PageResponse<String> more =
+        PageResponse.of(new SliceImpl<>(List.of("a", "b"), PageRequest.of(1, 2), true));
+    PageResponse<String> last =
+        PageResponse.of(new SliceImpl<>(List.of("c"), PageRequest.of(2, 2), false));
+
+    assertThat(more.getContent()).containsExactly("a", "b");
+    assertThat(more.getPage()).isEqualTo(1);
+    assertThat(more.getSize()).isEqualTo(2);
+    assertThat(more.getTotalElements()).isNull();
+    assertThat(more.getTotalPages()).isNull();
+    assertThat(more.isHasNext()).isTrue();
+    assertThat(last.isHasNext()).isFalse();
+  }
+}
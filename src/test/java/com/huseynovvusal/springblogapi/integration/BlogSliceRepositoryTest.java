@@ -0,0 +1,123 @@
+package com.huseynovvusal.springblogapi.integration;
+
+import static com.huseynovvusal.springblogapi.service.BlogSpecifications.hasAnyTagId;
+import static com.huseynovvusal.springblogapi.service.BlogSpecifications.hasAuthorUsername;
+import static com.huseynovvusal.springblogapi.service.BlogSpecifications.tagContains;
+import static com.huseynovvusal.springblogapi.service.BlogSpecifications.titleContains;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.huseynovvusal.springblogapi.model.Blog;
+import com.huseynovvusal.springblogapi.model.Role;
+import com.huseynovvusal.springblogapi.model.Tag;
+import com.huseynovvusal.springblogapi.model.User;
+import com.huseynovvusal.springblogapi.repository.BlogRepository;
+import com.huseynovvusal.springblogapi.repository.TagRepository;
+import com.huseynovvusal.springblogapi.repository.UserRepository;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+
+@SpringBootTest
+@DisplayName("BlogSliceRepository Tests")
+class BlogSliceRepositoryTest {
+
+  private static final int BLOGS = 5;
+  private static final int TAGGED = 3;
+
+  @Autowired private BlogRepository blogRepository;
+  @Autowired private UserRepository userRepository;
+  @Autowired private TagRepository tagRepository;
+
+  private String prefix;
+  private Tag tag;
+
+  @BeforeEach
+  void setUp() {
+    prefix = "slice" + UUID.randomUUID().toString().substring(0, 8);
+    User author = new User();
+    author.setUsername(prefix);
+    author.setFirstName("Slice");
+    author.setLastName("Test");
+    author.setEmail(prefix + "@example.com");
+    author.setPassword("x");
+    author.setRole(Role.USER);
+    userRepository.save(author);
+    tag = tagRepository.save(new Tag(null, prefix + "-tag"));
+    IntStream.range(0, BLOGS)
+        .forEach(
+            i -> {
+              Blog blog = new Blog();
+              blog.setTitle(prefix + " " + i);
+              blog.setContent("Content " + i);
+              blog.setAuthor(author);
+              if (i < TAGGED) {
+                blog.setTags(new HashSet<>(Set.of(tag)));
+              }
+              blogRepository.save(blog);
+            });
+  }
+
+  @Test
+  @DisplayName("should tell whether a next page exists without counting")
+  void shouldFindSlices() {
+    Sort byId = Sort.by("id");
+
+    Slice<Blog> first = blogRepository.findSlice(titleContains(prefix), PageRequest.of(0, 2, byId));
+    Slice<Blog> last = blogRepository.findSlice(titleContains(prefix), PageRequest.of(2, 2, byId));
+
+    assertThat(first.getContent())
+        .extracting(Blog::getTitle)
+        .containsExactly(prefix + " 0", prefix + " 1");
+    assertThat(first.hasNext()).isTrue();
+    assertThat(last.getContent()).extracting(Blog::getTitle).containsExactly(prefix + " 4");
+    assertThat(last.hasNext()).isFalse();
+  }
+
+  @Test
+  @DisplayName("should report no next page when the page is exactly full")
+  void shouldNotReportNextPageOnExactFit() {
+    Slice<Blog> slice =
+        blogRepository.findSlice(titleContains(prefix), PageRequest.of(0, BLOGS, Sort.by("id")));
+
+    assertThat(slice.getContent()).hasSize(BLOGS);
+    assertThat(slice.hasNext()).isFalse();
+  }
+
+  @Test
+  @DisplayName("should count matches up to the limit")
+  void shouldCountUpToLimit() {
+    assertThat(blogRepository.countUpTo(titleContains(prefix), 3)).isEqualTo(3);
+    assertThat(blogRepository.countUpTo(titleContains(prefix), 100)).isEqualTo(BLOGS);
+    assertThat(blogRepository.countUpTo(titleContains(prefix + "-none"), 100)).isZero();
+  }
+
+  @Test
+  @DisplayName("should count matches of tag ID filters up to the limit")
+  void shouldCountTagIdMatchesUpToLimit() {
+    assertThat(blogRepository.countUpTo(hasAnyTagId(Set.of(tag.getId())), 2)).isEqualTo(2);
+    assertThat(blogRepository.countUpTo(hasAnyTagId(Set.of(tag.getId())), 100)).isEqualTo(TAGGED);
+  }
+
+  @Test
+  @DisplayName("should count matches of tag name searches up to the limit")
+  void shouldCountTagNameMatchesUpToLimit() {
+    assertThat(blogRepository.countUpTo(tagContains(prefix + "-tag"), 2)).isEqualTo(2);
+    assertThat(blogRepository.countUpTo(tagContains(prefix + "-tag"), 100)).isEqualTo(TAGGED);
+  }
+
+  @Test
+  @DisplayName("should count matches of author filters up to the limit")
+  void shouldCountAuthorMatchesUpToLimit() {
+    assertThat(blogRepository.countUpTo(hasAuthorUsername(prefix), 3)).isEqualTo(3);
+    assertThat(blogRepository.countUpTo(hasAuthorUsername(prefix), 100)).isEqualTo(BLOGS);
+  }
+}
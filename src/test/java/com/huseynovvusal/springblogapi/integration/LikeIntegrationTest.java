@@ -0,0 +1,83 @@
+package com.huseynovvusal.springblogapi.integration;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.huseynovvusal.springblogapi.dto.RegisterRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest(
+    properties = {
+      "server.servlet.context-path=/api/v1",
+      "resilience4j.ratelimiter.configs.auth.limit-for-period=100",
+      "resilience4j.ratelimiter.configs.default.limit-for-period=100"
+    })
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class LikeIntegrationTest {
+
+  private static final String CONTEXT_PATH = "/api/v1";
+  private static final String REGISTER_PATH = CONTEXT_PATH + "/auth/register";
+  private static final String LIKES_PATH = CONTEXT_PATH + "/likes/";
+  private static final long MISSING_BLOG_ID = Long.MAX_VALUE;
+
+  @Autowired private MockMvc mockMvc;
+
+  @Autowired private ObjectMapper objectMapper;
+
+  private String token;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    String username = "liker" + System.nanoTime();
+    RegisterRequest request =
+        new RegisterRequest("Alice", "Tester", username, username + "@example.com", "Password123!");
+    String response =
+        mockMvc
+            .perform(
+                post(REGISTER_PATH)
+                    .contextPath(CONTEXT_PATH)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isOk())
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+    token = objectMapper.readTree(response).get("token").asText();
+  }
+
+  @Test
+  @DisplayName("Should return 404 when liking a blog that does not exist")
+  void addShouldReturnNotFoundForMissingBlog() throws Exception {
+    mockMvc
+        .perform(
+            post(LIKES_PATH + MISSING_BLOG_ID)
+                .contextPath(CONTEXT_PATH)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+        .andExpect(status().isNotFound())
+        .andExpect(jsonPath("$.message").value("Blog not found: " + MISSING_BLOG_ID));
+  }
+
+  @Test
+  @DisplayName("Should return 404 when toggling a like on a blog that does not exist")
+  void toggleShouldReturnNotFoundForMissingBlog() throws Exception {
+    mockMvc
+        .perform(
+            post(LIKES_PATH + MISSING_BLOG_ID + "/toggle")
+                .contextPath(CONTEXT_PATH)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+        .andExpect(status().isNotFound())
+        .andExpect(jsonPath("$.message").value("Blog not found: " + MISSING_BLOG_ID));
+  }
+}
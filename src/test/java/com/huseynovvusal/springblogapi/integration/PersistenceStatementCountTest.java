@@ -0,0 +1,226 @@
+package com.huseynovvusal.springblogapi.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.huseynovvusal.springblogapi.dto.response.BatchResultDto;
+import com.huseynovvusal.springblogapi.dto.response.BlogResponseDto;
+import com.huseynovvusal.springblogapi.dto.response.LikeResponseDto;
+import com.huseynovvusal.springblogapi.model.Blog;
+import com.huseynovvusal.springblogapi.model.Likes;
+import com.huseynovvusal.springblogapi.model.Role;
+import com.huseynovvusal.springblogapi.model.Tag;
+import com.huseynovvusal.springblogapi.model.User;
+import com.huseynovvusal.springblogapi.repository.BlogRepository;
+import com.huseynovvusal.springblogapi.repository.LikeRepository;
+import com.huseynovvusal.springblogapi.repository.TagRepository;
+import com.huseynovvusal.springblogapi.repository.UserRepository;
+import com.huseynovvusal.springblogapi.security.UserPrincipal;
+import com.huseynovvusal.springblogapi.service.BlogService;
+import com.huseynovvusal.springblogapi.service.BookmarkService;
+import com.huseynovvusal.springblogapi.service.LikeService;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Counts the JDBC statements issued by listing and bulk write paths under the production
+ * persistence profile, so a lost batch fetch or insert batch shows up as a failing test rather than
+ * as N+1 queries in production.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("prod")
+@DisplayName("Persistence statement count Tests")
+class PersistenceStatementCountTest {
+
+  private static final int ROWS = 12;
+  private static final int PAGE_SIZE = 10;
+
+  @Autowired private BlogService blogService;
+  @Autowired private LikeService likeService;
+  @Autowired private BookmarkService bookmarkService;
+  @Autowired private BlogRepository blogRepository;
+  @Autowired private LikeRepository likeRepository;
+  @Autowired private TagRepository tagRepository;
+  @Autowired private UserRepository userRepository;
+  @Autowired private TransactionTemplate transactionTemplate;
+  @Autowired private CacheManager cacheManager;
+  @Autowired private EntityManagerFactory entityManagerFactory;
+  @MockitoSpyBean private JdbcTemplate jdbcTemplate;
+
+  private Statistics statistics;
+  private String prefix;
+
+  @BeforeEach
+  void setUp() {
+    statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    prefix = "stmt" + UUID.randomUUID().toString().substring(0, 8);
+    cacheManager
+        .getCacheNames()
+        .forEach(name -> Objects.requireNonNull(cacheManager.getCache(name)).clear());
+  }
+
+  @AfterEach
+  void tearDown() {
+    SecurityContextHolder.clearContext();
+  }
+
+  @Test
+  @DisplayName("should load the authors of a blog listing in one batch")
+  void shouldBatchFetchAuthorsOfListing() {
+    List<User> authors = IntStream.range(0, ROWS).mapToObj(this::user).toList();
+    authors.forEach(author -> blogRepository.save(blog(author)));
+
+    statistics.clear();
+    Page<BlogResponseDto> page =
+        blogService.getAllBlogs(PageRequest.of(0, PAGE_SIZE, Sort.by(Sort.Direction.DESC, "id")));
+
+    assertThat(page.getContent()).hasSize(PAGE_SIZE);
+    assertThat(page.getContent()).allMatch(dto -> dto.getAuthor().getUsername().startsWith(prefix));
+    // Slice, authors, like counts and the total; one query per author without batch fetching
+    assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(4);
+  }
+
+  @Test
+  @DisplayName("should load the users of a page of likes in one batch")
+  void shouldBatchFetchUsersOfLikes() {
+    Blog blog = blogRepository.save(blog(user(0)));
+    IntStream.range(1, ROWS + 1)
+        .mapToObj(this::user)
+        .forEach(liker -> likeRepository.save(Likes.builder().user(liker).blog(blog).build()));
+
+    statistics.clear();
+    LikeResponseDto likes = likeService.getLikes(blog.getId(), PageRequest.of(0, PAGE_SIZE));
+
+    assertThat(likes.getLikedUsers().getContent()).hasSize(PAGE_SIZE);
+    // Like count, page, total and users
+    assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(4);
+  }
+
+  @Test
+  @DisplayName("should insert the tags of a new blog in one JDBC batch")
+  void shouldBatchInsertBlogTags() {
+    User author = user(0);
+    List<Tag> tags =
+        tagRepository.saveAll(
+            IntStream.range(0, ROWS)
+                .mapToObj(i -> Tag.builder().name(prefix + "-tag-" + i).build())
+                .toList());
+
+    transactionTemplate.executeWithoutResult(
+        status -> {
+          Blog blog = blog(author);
+          List<Long> tagIds = tags.stream().map(Tag::getId).toList();
+          blog.setTags(new HashSet<>(tagRepository.findAllById(tagIds)));
+          statistics.clear();
+          blogRepository.save(blog);
+        });
+
+    // At most one sequence call, the blog row and one batch for all blog_tags rows,
+    // instead of one insert per tag
+    assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(3);
+  }
+
+  @Test
+  @DisplayName("should like a batch of blogs with fixed lookups and one JDBC batch")
+  void shouldBatchLikeBlogs() {
+    List<Long> blogIds = blogIds();
+    signIn(user(ROWS));
+
+    statistics.clear();
+    clearInvocations(jdbcTemplate);
+    BatchResultDto result = likeService.addLikes(blogIds);
+
+    assertThat(result.getChanged()).hasSize(ROWS);
+    // Existing blogs, already liked blogs and their authors, independent of the batch size
+    assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(3);
+    verifyOneInsertBatch("likes_seq");
+  }
+
+  @Test
+  @DisplayName("should bookmark a batch of blogs with fixed lookups and one JDBC batch")
+  void shouldBatchBookmarkBlogs() {
+    List<Long> blogIds = blogIds();
+    signIn(user(ROWS));
+
+    statistics.clear();
+    clearInvocations(jdbcTemplate);
+    BatchResultDto result = bookmarkService.addBookmarks(blogIds);
+
+    assertThat(result.getChanged()).hasSize(ROWS);
+    // Existing blogs and already bookmarked blogs, independent of the batch size
+    assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(2);
+    verifyOneInsertBatch("bookmarks_seq");
+  }
+
+  private List<Long> blogIds() {
+    return IntStream.range(0, ROWS)
+        .mapToObj(i -> blogRepository.save(blog(user(i))).getId())
+        .toList();
+  }
+
+  private static void signIn(User user) {
+    UserPrincipal principal = new UserPrincipal(user.getId(), user.getUsername(), List.of());
+    SecurityContextHolder.getContext()
+        .setAuthentication(new UsernamePasswordAuthenticationToken(principal, null, List.of()));
+  }
+
+  /** One {@code nextval} covers the whole batch's IDs and all rows go out in one JDBC batch. */
+  private void verifyOneInsertBatch(String sequence) {
+    verify(jdbcTemplate, times(1))
+        .queryForObject(startsWith("select nextval('" + sequence + "')"), eq(Long.class));
+    verify(jdbcTemplate, times(1))
+        .batchUpdate(
+            any(PreparedStatementCreator.class),
+            any(BatchPreparedStatementSetter.class),
+            any(KeyHolder.class));
+  }
+
+  private User user(int i) {
+    User user = new User();
+    user.setUsername(prefix + "-" + i);
+    user.setFirstName("Statement");
+    user.setLastName("Count");
+    user.setEmail(prefix + "-" + i + "@example.com");
+    user.setPassword("x");
+    user.setRole(Role.USER);
+    return userRepository.save(user);
+  }
+
+  private static Blog blog(User author) {
+    Blog blog = new Blog();
+    blog.setTitle("Batching");
+    blog.setContent("Counting statements");
+    blog.setAuthor(author);
+    return blog;
+  }
+}
@@ -0,0 +1,36 @@
+package com.huseynovvusal.springblogapi.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PooledIds Unit Tests")
+class PooledIdsTest {
+
+  @Mock private JdbcTemplate jdbcTemplate;
+
+  @Test
+  @DisplayName("should use every ID of a block before drawing the next one")
+  void shouldFillBlocks() {
+    when(jdbcTemplate.queryForObject("select nextval('likes_seq')", Long.class))
+        .thenReturn(1L, 101L);
+
+    long[] ids = PooledIds.next(jdbcTemplate, "likes_seq", PooledIds.BLOCK_SIZE + 2);
+
+    assertThat(ids).hasSize(PooledIds.BLOCK_SIZE + 2);
+    assertThat(ids[0]).isEqualTo(1L);
+    assertThat(ids[PooledIds.BLOCK_SIZE - 1]).isEqualTo(50L);
+    assertThat(ids[PooledIds.BLOCK_SIZE]).isEqualTo(101L);
+    assertThat(ids[PooledIds.BLOCK_SIZE + 1]).isEqualTo(102L);
+    verify(jdbcTemplate, times(2)).queryForObject("select nextval('likes_seq')", Long.class);
+  }
+}
@@ -0,0 +1,49 @@
+package com.huseynovvusal.springblogapi.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.support.KeyHolder;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserBlogBatchInsert Unit Tests")
+class UserBlogBatchInsertTest {
+
+  @Mock private JdbcTemplate jdbcTemplate;
+
+  @Test
+  @DisplayName("should report the rows whose blog ID came back as inserted")
+  void shouldReportReturnedBlogIdsAsInserted() {
+    when(jdbcTemplate.queryForObject("select nextval('likes_seq')", Long.class)).thenReturn(1L);
+    doAnswer(
+            invocation -> {
+              List<Map<String, Object>> keys = invocation.<KeyHolder>getArgument(2).getKeyList();
+              keys.add(Map.of("BLOG_ID", 10L));
+              keys.add(Map.of("BLOG_ID", 30L));
+              return new int[] {1, 0, 1};
+            })
+        .when(jdbcTemplate)
+        .batchUpdate(
+            any(PreparedStatementCreator.class),
+            any(BatchPreparedStatementSetter.class),
+            any(KeyHolder.class));
+
+    int[] inserted =
+        UserBlogBatchInsert.insertAll(
+            jdbcTemplate, "likes", "likes_seq", 7L, List.of(10L, 20L, 30L));
+
+    assertThat(inserted).containsExactly(1, 0, 1);
+  }
+}
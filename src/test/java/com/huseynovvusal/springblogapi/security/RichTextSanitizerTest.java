@@ -2,9 +2,11 @@ package com.huseynovvusal.springblogapi.security;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.Test;
+import org.owasp.html.HtmlPolicyBuilder;
 
 class RichTextSanitizerTest {
 
@@ -66,4 +68,74 @@ class RichTextSanitizerTest {
     assertFalse(sanitized.contains("<img"));
     assertFalse(sanitized.contains("onerror"));
   }
+
+  @Test
+  void shouldReturnPlainTextUnchanged() {
+    String raw = "Just a plain paragraph.\nSecond line, with punctuation: 100% done!";
+    String sanitized = sanitizer.sanitize(raw);
+
+    assertSame(raw, sanitized);
+  }
+
+  @Test
+  void shouldStillEncodeSpecialCharactersInText() {
+    String raw = "Tom & Jerry";
+    String sanitized = sanitizer.sanitize(raw);
+
+    assertEquals("Tom &amp; Jerry", sanitized);
+  }
+
+  @Test
+  void shouldNotTreatMarkupAsPlainText() {
+    assertTrue(RichTextSanitizer.isPlainText("hello world"));
+    assertFalse(RichTextSanitizer.isPlainText("<b>hello</b>"));
+    assertFalse(RichTextSanitizer.isPlainText("a = b"));
+    assertFalse(RichTextSanitizer.isPlainText("nul\u0000char"));
+    assertFalse(RichTextSanitizer.isPlainText("{{x}}"));
+  }
+
+  @Test
+  void shouldMatchPolicyOutputForTemplateBraces() {
+    String raw = "{{x}}";
+    String expected = new HtmlPolicyBuilder().allowElements("p").toFactory().sanitize(raw);
+
+    assertEquals(expected, sanitizer.sanitize(raw));
+  }
+
+  @Test
+  void shouldReturnCachedResultForRepeatedLargePayload() {
+    String raw = "<p>" + "x".repeat(2048) + "</p><script>alert(1)</script>";
+    String first = sanitizer.sanitize(raw);
+    String second = sanitizer.sanitize(new String(raw));
+
+    assertSame(first, second);
+    assertFalse(second.contains("<script>"));
+  }
+
+  @Test
+  void shouldReportUnmodifiedContentWithoutCopying() {
+    String raw = "<p>Hello <b>World</b></p>";
+    SanitizationResult result = sanitizer.sanitizeWithResult(raw);
+
+    assertFalse(result.modified());
+    assertSame(raw, result.content());
+  }
+
+  @Test
+  void shouldReportModifiedContent() {
+    String raw = "<p>Hello</p><script>alert(1)</script><p>World</p>";
+    SanitizationResult result = sanitizer.sanitizeWithResult(raw);
+
+    assertTrue(result.modified());
+    assertEquals("<p>Hello</p><p>World</p>", result.content());
+  }
+
+  @Test
+  void shouldReportTruncatedContentAsModified() {
+    String raw = "<p>Hello</p><img src=x>";
+    SanitizationResult result = sanitizer.sanitizeWithResult(raw);
+
+    assertTrue(result.modified());
+    assertEquals("<p>Hello</p>", result.content());
+  }
 }
@@ -0,0 +1,223 @@
+package com.huseynovvusal.springblogapi.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.huseynovvusal.springblogapi.model.AuthorStats;
+import com.huseynovvusal.springblogapi.repository.AuthorStatsRepository;
+import com.huseynovvusal.springblogapi.repository.BlogAuthor;
+import com.huseynovvusal.springblogapi.repository.BlogRepository;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AuthorStatsService Unit Tests")
+class AuthorStatsServiceTest {
+
+  @Mock private BlogRepository blogRepository;
+  @Mock private AuthorStatsRepository authorStatsRepository;
+  @Mock private JdbcTemplate jdbcTemplate;
+  @Mock private PlatformTransactionManager transactionManager;
+
+  private AuthorStatsService authorStatsService;
+
+  @BeforeEach
+  void setup() {
+    authorStatsService =
+        new AuthorStatsService(
+            blogRepository, authorStatsRepository, jdbcTemplate, transactionManager);
+  }
+
+  @Test
+  @DisplayName("should add unflushed changes to the stored row")
+  void shouldAddPendingDeltasToStoredRow() {
+    AuthorStats stored = new AuthorStats();
+    stored.setAuthorId(7L);
+    stored.setPostCount(2L);
+    stored.setTotalViews(100L);
+    stored.setTotalLikes(5L);
+    when(authorStatsRepository.findById(7L)).thenReturn(Optional.of(stored));
+    when(blogRepository.findAuthorIdById(1L)).thenReturn(Optional.of(7L));
+
+    authorStatsService.recordPost(7L);
+    authorStatsService.recordView(1L);
+    authorStatsService.recordView(1L);
+    authorStatsService.recordLikes(1L, 3);
+    authorStatsService.recordLikes(1L, -1);
+
+    AuthorStats stats = authorStatsService.getStats(7L);
+    assertThat(stats.getPostCount()).isEqualTo(3L);
+    assertThat(stats.getTotalViews()).isEqualTo(102L);
+    assertThat(stats.getTotalLikes()).isEqualTo(7L);
+    verify(blogRepository, times(1)).findAuthorIdById(1L);
+  }
+
+  @Test
+  @DisplayName("should resolve the authors of several liked blogs in one query")
+  void shouldResolveBatchAuthorsInOneQuery() {
+    when(blogRepository.findAuthorIdsByIdIn(anyCollection()))
+        .thenReturn(List.of(new BlogAuthor(1L, 7L), new BlogAuthor(2L, 7L)));
+
+    authorStatsService.recordLikes(List.of(1L, 2L, 3L), 1);
+
+    assertThat(authorStatsService.getStats(7L).getTotalLikes()).isEqualTo(2L);
+    verify(blogRepository, times(1)).findAuthorIdsByIdIn(anyCollection());
+    verify(blogRepository, never()).findAuthorIdById(anyLong());
+  }
+
+  @Test
+  @DisplayName("should ignore events for unknown blogs")
+  void shouldIgnoreUnknownBlogs() {
+    when(blogRepository.findAuthorIdById(1L)).thenReturn(Optional.empty());
+
+    authorStatsService.recordView(1L);
+    authorStatsService.flush();
+
+    verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  @DisplayName("should flush deltas in one batch and reset them")
+  void shouldFlushDeltasInBatch() {
+    when(blogRepository.findAuthorIdById(1L)).thenReturn(Optional.of(7L));
+    authorStatsService.recordPost(7L);
+    authorStatsService.recordView(1L);
+
+    authorStatsService.flush();
+    authorStatsService.flush();
+
+    ArgumentCaptor<List<Object[]>> rows = ArgumentCaptor.forClass(List.class);
+    verify(jdbcTemplate, times(1)).batchUpdate(startsWith("update"), rows.capture());
+    assertThat(rows.getValue()).containsExactly(new Object[] {1L, 1L, 0L, 7L});
+  }
+
+  @Test
+  @DisplayName("should keep deltas when the flush fails")
+  void shouldKeepDeltasWhenFlushFails() {
+    when(jdbcTemplate.batchUpdate(startsWith("insert"), anyList()))
+        .thenThrow(new QueryTimeoutException("timeout"));
+    when(authorStatsRepository.findById(7L)).thenReturn(Optional.empty());
+    authorStatsService.recordPost(7L);
+
+    authorStatsService.flush();
+
+    assertThat(authorStatsService.getStats(7L).getPostCount()).isEqualTo(1L);
+  }
+
+  @Test
+  @DisplayName("should record changes only once the transaction commits")
+  void shouldRecordAfterCommit() {
+    when(authorStatsRepository.findById(7L)).thenReturn(Optional.empty());
+    when(blogRepository.findAuthorIdById(1L)).thenReturn(Optional.of(7L));
+    TransactionSynchronizationManager.initSynchronization();
+    try {
+      authorStatsService.recordPost(7L);
+      authorStatsService.recordView(1L);
+      assertThat(authorStatsService.getStats(7L).getTotalViews()).isZero();
+
+      TransactionSynchronizationManager.getSynchronizations()
+          .forEach(TransactionSynchronization::afterCommit);
+    } finally {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    AuthorStats stats = authorStatsService.getStats(7L);
+    assertThat(stats.getPostCount()).isEqualTo(1L);
+    assertThat(stats.getTotalViews()).isEqualTo(1L);
+  }
+
+  @Test
+  @DisplayName("should discard pending deltas the reconciliation recomputes")
+  void shouldDiscardPendingDeltasOnReconcile() {
+    when(authorStatsRepository.findById(7L)).thenReturn(Optional.empty());
+    authorStatsService.recordPost(7L);
+
+    authorStatsService.reconcile();
+    authorStatsService.flush();
+
+    verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+    assertThat(authorStatsService.getStats(7L).getPostCount()).isZero();
+  }
+
+  @Test
+  @DisplayName("should hold back a flush until the reconciliation is done")
+  void shouldNotFlushDuringReconcile() throws Exception {
+    CountDownLatch recomputing = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    when(jdbcTemplate.update(anyString()))
+        .thenAnswer(
+            invocation -> {
+              if (invocation.<String>getArgument(0).startsWith("update")) {
+                recomputing.countDown();
+                release.await();
+              }
+              return 0;
+            });
+    Thread reconciler = new Thread(authorStatsService::reconcile);
+    reconciler.start();
+    assertThat(recomputing.await(5, TimeUnit.SECONDS)).isTrue();
+
+    authorStatsService.recordPost(7L);
+    Thread flusher = new Thread(authorStatsService::flush);
+    flusher.start();
+    flusher.join(200);
+    assertThat(flusher.isAlive()).isTrue();
+    verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+
+    release.countDown();
+    reconciler.join();
+    flusher.join();
+    verify(jdbcTemplate, times(1)).batchUpdate(startsWith("update"), anyList());
+  }
+
+  @Test
+  @DisplayName("should wait for committing changes before discarding pending deltas")
+  void shouldReconcileAfterCommittingChanges() throws Exception {
+    when(authorStatsRepository.findById(7L)).thenReturn(Optional.empty());
+    Thread reconciler = new Thread(authorStatsService::reconcile);
+    TransactionSynchronizationManager.initSynchronization();
+    try {
+      authorStatsService.recordPost(7L);
+      List<TransactionSynchronization> synchronizations =
+          TransactionSynchronizationManager.getSynchronizations();
+      synchronizations.forEach(synchronization -> synchronization.beforeCommit(false));
+      reconciler.start();
+      reconciler.join(200);
+      assertThat(reconciler.isAlive()).isTrue();
+
+      synchronizations.forEach(TransactionSynchronization::afterCommit);
+      synchronizations.forEach(
+          synchronization ->
+              synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+    } finally {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+    reconciler.join();
+
+    // Committed before the snapshot: the recompute counts the post, so its delta is discarded
+    assertThat(authorStatsService.getStats(7L).getPostCount()).isZero();
+  }
+}
@@ -0,0 +1,143 @@
+package com.huseynovvusal.springblogapi.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BlogFilterIndex Unit Tests")
+class BlogFilterIndexTest {
+
+  private static final Instant DAY_1 = Instant.parse("2025-01-01T10:00:00Z");
+  private static final Instant DAY_2 = Instant.parse("2025-01-02T10:00:00Z");
+  private static final Instant DAY_3 = Instant.parse("2025-01-03T10:00:00Z");
+
+  @Mock private JdbcTemplate jdbcTemplate;
+
+  private BlogFilterIndex index;
+
+  @BeforeEach
+  void setup() {
+    index = new BlogFilterIndex(jdbcTemplate, true);
+    index.load();
+    index.onCreated(1L, "alice", Date.from(DAY_1), List.of(10L));
+    index.onCreated(2L, "Bob", Date.from(DAY_2), List.of(10L, 20L));
+    index.onCreated(3L, "alice", Date.from(DAY_3), List.of(20L));
+    index.onCreated(4L, "alice", Date.from(DAY_3.plusSeconds(60)), List.of());
+  }
+
+  @Test
+  @DisplayName("should union tags and intersect with the author")
+  void shouldCombineTagsAndAuthor() {
+    Page<Long> page = index.findIds(List.of(10L, 20L), "ALICE", null, null, PageRequest.of(0, 10));
+
+    assertThat(page.getContent()).containsExactly(3L, 1L);
+    assertThat(page.getTotalElements()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("should apply inclusive date ranges exactly on boundary days")
+  void shouldFilterByExactDateRange() {
+    Page<Long> page =
+        index.findIds(null, null, DAY_1.plusSeconds(1), DAY_3, PageRequest.of(0, 10));
+
+    assertThat(page.getContent()).containsExactly(3L, 2L);
+  }
+
+  @Test
+  @DisplayName("should page by rank in the requested direction")
+  void shouldPageByRank() {
+    Page<Long> page = index.findIds(null, null, null, null, PageRequest.of(1, 2, Sort.by("id")));
+
+    assertThat(page.getContent()).containsExactly(3L, 4L);
+    assertThat(page.getTotalElements()).isEqualTo(4);
+  }
+
+  @Test
+  @DisplayName("should move a blog between tags")
+  void shouldApplyTagChanges() {
+    index.onTagsChanged(1L, List.of(10L), List.of(20L));
+
+    assertThat(index.findIds(List.of(10L), null, null, null, PageRequest.of(0, 10)).getContent())
+        .containsExactly(2L);
+    assertThat(index.findIds(List.of(20L), null, null, null, PageRequest.of(0, 10)).getContent())
+        .containsExactly(3L, 2L, 1L);
+  }
+
+  @Test
+  @DisplayName("should only serve unsorted pages or pages sorted by ID")
+  void shouldSupportIdOrderOnly() {
+    assertThat(index.supports(PageRequest.of(0, 20))).isTrue();
+    assertThat(index.supports(PageRequest.of(0, 20, Sort.by("id").descending()))).isTrue();
+    assertThat(index.supports(PageRequest.of(0, 20, Sort.by("createdAt").descending()))).isFalse();
+    assertThat(index.supports(PageRequest.of(0, 20, Sort.by("views")))).isFalse();
+  }
+
+  @Test
+  @DisplayName("should filter boundary days by time when blogs arrive out of ID order")
+  void shouldFilterBoundaryDaysOutOfIdOrder() {
+    index.onCreated(100L, "carol", Date.from(DAY_1.minusSeconds(3600)), List.of());
+    index.onCreated(50L, "carol", Date.from(DAY_1.plusSeconds(3600)), List.of());
+
+    Page<Long> page =
+        index.findIds(null, "carol", DAY_1.minusSeconds(1), null, PageRequest.of(0, 10));
+
+    assertThat(page.getContent()).containsExactly(50L);
+  }
+
+  @Test
+  @DisplayName("should keep tag changes applied while the index is rebuilt")
+  void shouldKeepChangesDuringRebuild() throws Exception {
+    ResultSet blog = mock(ResultSet.class);
+    when(blog.getLong(1)).thenReturn(1L);
+    when(blog.getString(2)).thenReturn("alice");
+    when(blog.getTimestamp(3)).thenReturn(Timestamp.from(DAY_1));
+    ResultSet blogTag = mock(ResultSet.class);
+    when(blogTag.getLong(1)).thenReturn(1L);
+    when(blogTag.getLong(2)).thenReturn(10L);
+    doAnswer(
+            invocation -> {
+              invocation.<RowCallbackHandler>getArgument(1).processRow(blog);
+              return null;
+            })
+        .when(jdbcTemplate)
+        .query(startsWith("select b.id"), any(RowCallbackHandler.class));
+    doAnswer(
+            invocation -> {
+              index.onTagsChanged(1L, List.of(10L), List.of(20L));
+              invocation.<RowCallbackHandler>getArgument(1).processRow(blogTag);
+              return null;
+            })
+        .when(jdbcTemplate)
+        .query(startsWith("select blog_id"), any(RowCallbackHandler.class));
+
+    index.rebuild();
+
+    assertThat(index.findIds(List.of(10L), null, null, null, PageRequest.of(0, 10)).getContent())
+        .isEmpty();
+    assertThat(index.findIds(List.of(20L), null, null, null, PageRequest.of(0, 10)).getContent())
+        .containsExactly(1L);
+    assertThat(index.findIds(null, null, null, null, PageRequest.of(0, 10)).getContent())
+        .containsExactly(1L);
+  }
+}
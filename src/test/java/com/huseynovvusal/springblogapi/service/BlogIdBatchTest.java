@@ -0,0 +1,44 @@
+package com.huseynovvusal.springblogapi.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("BlogIdBatch Unit Tests")
+class BlogIdBatchTest {
+
+  @Test
+  @DisplayName("should split requested IDs into pending, unchanged and not found")
+  void shouldPartitionRequestedIds() {
+    BlogIdBatch batch =
+        BlogIdBatch.of(List.of(4L, 1L, 2L, 3L, 1L), List.of(1L, 2L, 4L), List.of(2L));
+
+    assertThat(batch.pending()).containsExactly(4L, 1L);
+    assertThat(batch.unchanged()).containsExactly(2L);
+    assertThat(batch.notFound()).containsExactly(3L);
+  }
+
+  @Test
+  @DisplayName("should only remove IDs that are present")
+  void shouldPartitionRemoval() {
+    BlogIdBatch batch = BlogIdBatch.forRemoval(List.of(1L, 2L, 3L), List.of(3L, 1L));
+
+    assertThat(batch.pending()).containsExactly(1L, 3L);
+    assertThat(batch.unchanged()).containsExactly(2L);
+    assertThat(batch.notFound()).isEmpty();
+  }
+
+  @Test
+  @DisplayName("should report rows skipped by the insert as unchanged")
+  void shouldMoveSkippedInsertsToUnchanged() {
+    BlogIdBatch batch =
+        BlogIdBatch.of(List.of(1L, 2L, 3L, 4L), List.of(1L, 2L, 3L), List.of(1L))
+            .withInserted(new int[] {0, 1});
+
+    assertThat(batch.pending()).containsExactly(3L);
+    assertThat(batch.unchanged()).containsExactly(1L, 2L);
+    assertThat(batch.notFound()).containsExactly(4L);
+  }
+}
@@ -0,0 +1,102 @@
+package com.huseynovvusal.springblogapi.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.huseynovvusal.springblogapi.dto.response.PageResponse;
+import com.huseynovvusal.springblogapi.repository.ApproximatePage;
+import com.huseynovvusal.springblogapi.repository.BlogRepository;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.BadSqlGrammarException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BlogPageCounter Unit Tests")
+class BlogPageCounterTest {
+
+  @Mock private BlogRepository blogRepository;
+  @Mock private JdbcTemplate jdbcTemplate;
+
+  private final Slice<Long> middlePage =
+      new SliceImpl<>(List.of(21L, 22L), PageRequest.of(10, 2), true);
+
+  @Test
+  @DisplayName("should derive the total of the last page without counting")
+  void shouldNotCountLastPage() {
+    BlogPageCounter counter = counter(BlogPageCounter.Strategy.EXACT);
+
+    Page<Long> page =
+        counter.toPageOfAll(new SliceImpl<>(List.of(21L), PageRequest.of(10, 2), false));
+
+    assertThat(page.getTotalElements()).isEqualTo(21L);
+    verifyNoInteractions(blogRepository, jdbcTemplate);
+  }
+
+  @Test
+  @DisplayName("should report the cap as an approximate total when more rows match")
+  void shouldCapLargeCounts() {
+    when(blogRepository.countUpTo(any(), eq(101L))).thenReturn(101L);
+
+    Page<Long> page = counter(BlogPageCounter.Strategy.CAPPED).toPageOfAll(middlePage);
+
+    assertThat(page).isInstanceOf(ApproximatePage.class);
+    assertThat(page.getTotalElements()).isEqualTo(100L);
+    assertThat(PageResponse.of(page.map(String::valueOf)).isTotalApproximate()).isTrue();
+    verify(blogRepository, never()).count(any());
+  }
+
+  @Test
+  @DisplayName("should return an exact total when the capped count stays below the cap")
+  void shouldReturnExactCountBelowCap() {
+    when(blogRepository.countUpTo(any(), anyLong())).thenReturn(57L);
+
+    Page<Long> page = counter(BlogPageCounter.Strategy.CAPPED).toPageOfAll(middlePage);
+
+    assertThat(page).isNotInstanceOf(ApproximatePage.class);
+    assertThat(page.getTotalElements()).isEqualTo(57L);
+  }
+
+  @Test
+  @DisplayName("should fall back to a capped count when no row estimate is available")
+  void shouldFallBackWhenEstimateUnavailable() {
+    when(jdbcTemplate.queryForObject(anyString(), eq(Long.class)))
+        .thenThrow(new BadSqlGrammarException("estimate", "select", null));
+    when(blogRepository.countUpTo(any(), anyLong())).thenReturn(40L);
+
+    Page<Long> page = counter(BlogPageCounter.Strategy.ESTIMATE).toPageOfAll(middlePage);
+
+    assertThat(page.getTotalElements()).isEqualTo(40L);
+  }
+
+  @Test
+  @DisplayName("should use the planner estimate for unfiltered listings")
+  void shouldUseEstimate() {
+    when(jdbcTemplate.queryForObject(anyString(), eq(Long.class))).thenReturn(1_000_000L);
+
+    Page<Long> page = counter(BlogPageCounter.Strategy.ESTIMATE).toPageOfAll(middlePage);
+
+    assertThat(page).isInstanceOf(ApproximatePage.class);
+    assertThat(page.getTotalElements()).isEqualTo(1_000_000L);
+    verifyNoInteractions(blogRepository);
+  }
+
+  private BlogPageCounter counter(BlogPageCounter.Strategy strategy) {
+    return new BlogPageCounter(blogRepository, jdbcTemplate, strategy, 100L);
+  }
+}
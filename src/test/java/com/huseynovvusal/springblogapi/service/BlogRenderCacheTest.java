@@ -0,0 +1,96 @@
+package com.huseynovvusal.springblogapi.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.huseynovvusal.springblogapi.converter.ResponseDtoSerializers;
+import com.huseynovvusal.springblogapi.dto.response.BlogResponseDto;
+import com.huseynovvusal.springblogapi.dto.response.UserSummaryDto;
+import com.huseynovvusal.springblogapi.repository.BlogVersion;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("BlogRenderCache Unit Tests")
+class BlogRenderCacheTest {
+
+  private final ObjectMapper objectMapper =
+      new ObjectMapper()
+          .registerModule(
+              new SimpleModule()
+                  .addSerializer(new ResponseDtoSerializers.BlogResponseDtoSerializer())
+                  .addSerializer(new ResponseDtoSerializers.UserSummaryDtoSerializer()));
+  private final Date updatedAt = new Date(1_700_000_000_000L);
+  private final AtomicInteger loads = new AtomicInteger();
+
+  private BlogRenderCache renderCache;
+  private Supplier<BlogResponseDto> loader;
+
+  @BeforeEach
+  void setup() {
+    renderCache = new BlogRenderCache(objectMapper, 1024 * 1024);
+    loader =
+        () -> {
+          loads.incrementAndGet();
+          return new BlogResponseDto(
+              1L,
+              "Title",
+              "<p>Content with \"quotes\"</p>",
+              updatedAt,
+              updatedAt,
+              new UserSummaryDto(2L, "author", "First", "Last"),
+              0L,
+              0L);
+        };
+  }
+
+  @Test
+  @DisplayName("should render a complete JSON body with live counters")
+  void shouldRenderCompleteBody() throws Exception {
+    byte[] body = renderCache.render(new BlogVersion(1L, updatedAt, 42L), 7L, loader);
+
+    JsonNode json = objectMapper.readTree(body);
+    assertThat(json.get("id").asLong()).isEqualTo(1L);
+    assertThat(json.get("content").asText()).isEqualTo("<p>Content with \"quotes\"</p>");
+    assertThat(json.get("author").get("username").asText()).isEqualTo("author");
+    assertThat(json.get("views").asLong()).isEqualTo(42L);
+    assertThat(json.get("likeCount").asLong()).isEqualTo(7L);
+  }
+
+  @Test
+  @DisplayName("should reuse the rendering while the blog is unchanged")
+  void shouldReuseRenderingForSameVersion() throws Exception {
+    renderCache.render(new BlogVersion(1L, updatedAt, 1L), 0L, loader);
+    byte[] body = renderCache.render(new BlogVersion(1L, updatedAt, 2L), 3L, loader);
+
+    assertThat(loads.get()).isEqualTo(1);
+    assertThat(objectMapper.readTree(body).get("views").asLong()).isEqualTo(2L);
+  }
+
+  @Test
+  @DisplayName("should render again when the blog was modified")
+  void shouldRenderAgainWhenModified() {
+    renderCache.render(new BlogVersion(1L, updatedAt, 1L), 0L, loader);
+    renderCache.render(new BlogVersion(1L, new Date(updatedAt.getTime() + 1), 1L), 0L, loader);
+
+    assertThat(loads.get()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("should leave the counters out of the cached part")
+  void shouldRenderCountersOnlyOnce() throws Exception {
+    byte[] body = renderCache.render(new BlogVersion(1L, updatedAt, 42L), 7L, loader);
+
+    // Fails if the serializer ignores BLOG_STATIC_PART and writes the counters into the cache
+    JsonNode json =
+        objectMapper.reader().with(JsonParser.Feature.STRICT_DUPLICATE_DETECTION).readTree(body);
+    assertThat(json.get("views").asLong()).isEqualTo(42L);
+    assertThat(json.get("likeCount").asLong()).isEqualTo(7L);
+  }
+}
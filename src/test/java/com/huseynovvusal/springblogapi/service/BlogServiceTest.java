@@ -1,15 +1,25 @@
 package com.huseynovvusal.springblogapi.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
-import com.huseynovvusal.springblogapi.dto.response.BlogResponseDto;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.huseynovvusal.springblogapi.converter.ResponseDtoSerializers;
 import com.huseynovvusal.springblogapi.model.Blog;
 import com.huseynovvusal.springblogapi.model.User;
 import com.huseynovvusal.springblogapi.repository.BlogRepository;
+import com.huseynovvusal.springblogapi.repository.BlogVersion;
 import com.huseynovvusal.springblogapi.repository.LikeRepository;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Date;
+import java.util.NoSuchElementException;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -26,17 +36,40 @@ class BlogServiceTest {
   @Mock private BlogRepository blogRepository;
   @Mock private LikeRepository likeRepository;
 
+  private final ObjectMapper objectMapper =
+      new ObjectMapper()
+          .registerModule(
+              new SimpleModule()
+                  .addSerializer(new ResponseDtoSerializers.BlogResponseDtoSerializer())
+                  .addSerializer(new ResponseDtoSerializers.UserSummaryDtoSerializer()));
+
+  private TrendingService trendingService;
   private BlogService blogService;
 
   @BeforeEach
   void setup() {
     MockitoAnnotations.openMocks(this);
-    blogService = new BlogService(blogRepository, null, null, likeRepository);
+    trendingService =
+        new TrendingService(168, Duration.ofHours(24), 3.0, 1.0, 100, Clock.systemUTC());
+    blogService =
+        new BlogService(
+            blogRepository,
+            null,
+            null,
+            new LikeCounterService(likeRepository, null, null),
+            new BlogRenderCache(objectMapper, 1024 * 1024),
+            trendingService,
+            new AuthorStatsService(blogRepository, null, null, null),
+            null,
+            new BlogFilterIndex(null, false),
+            null,
+            new BlogPageCounter(blogRepository, null, BlogPageCounter.Strategy.EXACT, 10_000L),
+            null);
   }
 
   @Test
   @DisplayName("should increment views when blog is fetched by ID")
-  void shouldIncrementViewsWhenGetById() {
+  void shouldIncrementViewsWhenGetById() throws Exception {
     // Given
     Long blogId = 1L;
     Blog blog = new Blog();
@@ -50,42 +83,47 @@ class BlogServiceTest {
     author.setUsername("testuser");
     blog.setAuthor(author);
 
-    when(blogRepository.findById(blogId)).thenReturn(Optional.of(blog));
+    when(blogRepository.findVersionById(blogId))
+        .thenReturn(Optional.of(new BlogVersion(blogId, new Date(), 1L)));
+    when(blogRepository.findWithAuthorById(blogId)).thenReturn(blog);
     when(likeRepository.countByBlog_Id(blogId)).thenReturn(0L);
 
     // When
-    BlogResponseDto result = blogService.getById(blogId);
+    byte[] result = blogService.getRenderedById(blogId);
 
     // Then
     verify(blogRepository).incrementViews(eq(blogId));
-    verify(blogRepository).findById(eq(blogId));
-    assertThat(result).isNotNull();
-    assertThat(result.getId()).isEqualTo(blogId);
+    verify(blogRepository).findWithAuthorById(eq(blogId));
+    JsonNode json = objectMapper.readTree(result);
+    assertThat(json.get("id").asLong()).isEqualTo(blogId);
+    assertThat(json.get("views").asLong()).isEqualTo(1L);
   }
 
   @Test
-  @DisplayName("should increment views exactly once per getById call")
+  @DisplayName("should increment views exactly once per recorded view")
   void shouldIncrementViewsExactlyOnce() {
     // Given
     Long blogId = 5L;
-    Blog blog = new Blog();
-    blog.setId(blogId);
-    blog.setTitle("Another Blog");
-    blog.setContent("Another Content");
-    blog.setViews(10L);
-
-    User author = new User();
-    author.setId(2L);
-    author.setUsername("anotheruser");
-    blog.setAuthor(author);
-
-    when(blogRepository.findById(blogId)).thenReturn(Optional.of(blog));
+    when(blogRepository.findVersionById(blogId))
+        .thenReturn(Optional.of(new BlogVersion(blogId, new Date(), 11L)));
     when(likeRepository.countByBlog_Id(blogId)).thenReturn(0L);
 
     // When
-    blogService.getById(blogId);
+    BlogRevision revision = blogService.recordView(blogId);
 
     // Then
-    verify(blogRepository).incrementViews(eq(blogId));
+    verify(blogRepository, times(1)).incrementViews(eq(blogId));
+    assertThat(revision.version().views()).isEqualTo(11L);
+  }
+
+  @Test
+  @DisplayName("should not record a trending view of a missing blog")
+  void shouldNotRecordViewOfMissingBlog() {
+    when(blogRepository.findVersionById(99L)).thenReturn(Optional.empty());
+
+    assertThrows(NoSuchElementException.class, () -> blogService.recordView(99L));
+    trendingService.refresh();
+
+    assertThat(trendingService.top(10)).isEmpty();
   }
 }
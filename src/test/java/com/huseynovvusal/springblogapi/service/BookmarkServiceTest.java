@@ -0,0 +1,141 @@
+package com.huseynovvusal.springblogapi.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.huseynovvusal.springblogapi.dto.response.BatchResultDto;
+import com.huseynovvusal.springblogapi.exception.BlogNotFoundException;
+import com.huseynovvusal.springblogapi.repository.BlogRepository;
+import com.huseynovvusal.springblogapi.repository.BookmarkRepository;
+import com.huseynovvusal.springblogapi.security.UserPrincipal;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BookmarkService Unit Tests")
+class BookmarkServiceTest {
+
+  private static final Long USER_ID = 7L;
+
+  @Mock private BookmarkRepository bookmarkRepository;
+  @Mock private BlogRepository blogRepository;
+  @Mock private LikeCounterService likeCounterService;
+
+  private BookmarkService bookmarkService;
+
+  @BeforeEach
+  void setup() {
+    bookmarkService = new BookmarkService(bookmarkRepository, blogRepository, likeCounterService);
+    UserPrincipal principal = new UserPrincipal(USER_ID, "alice", List.of());
+    SecurityContextHolder.getContext()
+        .setAuthentication(new UsernamePasswordAuthenticationToken(principal, null, List.of()));
+  }
+
+  @AfterEach
+  void tearDown() {
+    SecurityContextHolder.clearContext();
+  }
+
+  @Test
+  @DisplayName("should add a bookmark without looking up the blog")
+  void shouldAddBookmark() throws BlogNotFoundException {
+    when(bookmarkRepository.insertIfAbsent(USER_ID, 1L)).thenReturn(1);
+
+    assertThat(bookmarkService.addBookmark(1L)).isTrue();
+
+    verify(blogRepository, never()).existsById(anyLong());
+  }
+
+  @Test
+  @DisplayName("should ignore a bookmark the user already has")
+  void shouldIgnoreExistingBookmark() throws BlogNotFoundException {
+    when(bookmarkRepository.insertIfAbsent(USER_ID, 1L)).thenReturn(0);
+    when(blogRepository.existsById(1L)).thenReturn(true);
+
+    assertThat(bookmarkService.addBookmark(1L)).isFalse();
+  }
+
+  @Test
+  @DisplayName("should report a missing blog when bookmarking")
+  void shouldRejectBookmarkOfMissingBlog() {
+    when(bookmarkRepository.insertIfAbsent(USER_ID, 99L)).thenReturn(0);
+    when(blogRepository.existsById(99L)).thenReturn(false);
+
+    assertThrows(BlogNotFoundException.class, () -> bookmarkService.addBookmark(99L));
+  }
+
+  @Test
+  @DisplayName("should toggle an existing bookmark off without inserting")
+  void shouldToggleOff() throws BlogNotFoundException {
+    when(bookmarkRepository.deleteByUserIdAndBlogIds(USER_ID, List.of(1L))).thenReturn(1);
+
+    assertThat(bookmarkService.toggle(1L)).isFalse();
+
+    verify(bookmarkRepository, never()).insertIfAbsent(USER_ID, 1L);
+  }
+
+  @Test
+  @DisplayName("should report a missing blog when toggling")
+  void shouldRejectToggleOfMissingBlog() {
+    when(bookmarkRepository.deleteByUserIdAndBlogIds(USER_ID, List.of(99L))).thenReturn(0);
+    when(bookmarkRepository.insertIfAbsent(USER_ID, 99L)).thenReturn(0);
+    when(blogRepository.existsById(99L)).thenReturn(false);
+
+    assertThrows(BlogNotFoundException.class, () -> bookmarkService.toggle(99L));
+  }
+
+  @Test
+  @DisplayName("should bookmark only existing, not yet bookmarked blogs in a batch")
+  void shouldPartitionBatchBookmark() {
+    List<Long> requested = List.of(1L, 2L, 3L, 4L);
+    when(blogRepository.findExistingIds(requested)).thenReturn(List.of(1L, 2L, 3L));
+    when(bookmarkRepository.findBookmarkedBlogIds(USER_ID, requested)).thenReturn(List.of(2L));
+    when(bookmarkRepository.insertAll(USER_ID, List.of(1L, 3L))).thenReturn(new int[] {1, 0});
+
+    BatchResultDto result = bookmarkService.addBookmarks(requested);
+
+    assertThat(result.getChanged()).containsExactly(1L);
+    assertThat(result.getUnchanged()).containsExactly(2L, 3L);
+    assertThat(result.getNotFound()).containsExactly(4L);
+  }
+
+  @Test
+  @DisplayName("should not write anything when every blog is already bookmarked")
+  void shouldSkipInsertWhenNothingIsPending() {
+    List<Long> requested = List.of(1L);
+    when(blogRepository.findExistingIds(requested)).thenReturn(requested);
+    when(bookmarkRepository.findBookmarkedBlogIds(USER_ID, requested)).thenReturn(requested);
+
+    BatchResultDto result = bookmarkService.addBookmarks(requested);
+
+    assertThat(result.getChanged()).isEmpty();
+    assertThat(result.getUnchanged()).containsExactly(1L);
+    verify(bookmarkRepository, never()).insertAll(anyLong(), anyCollection());
+  }
+
+  @Test
+  @DisplayName("should unbookmark only bookmarked blogs in a batch")
+  void shouldPartitionBatchUnbookmark() {
+    List<Long> requested = List.of(1L, 2L);
+    when(bookmarkRepository.findBookmarkedBlogIds(USER_ID, requested)).thenReturn(List.of(1L));
+
+    BatchResultDto result = bookmarkService.removeBookmarks(requested);
+
+    assertThat(result.getChanged()).containsExactly(1L);
+    assertThat(result.getUnchanged()).containsExactly(2L);
+    verify(bookmarkRepository).deleteByUserIdAndBlogIds(USER_ID, List.of(1L));
+  }
+}
@@ -0,0 +1,170 @@
+package com.huseynovvusal.springblogapi.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.huseynovvusal.springblogapi.repository.BlogLikeCount;
+import com.huseynovvusal.springblogapi.repository.LikeRepository;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LikeCounterService Unit Tests")
+class LikeCounterServiceTest {
+
+  @Mock private LikeRepository likeRepository;
+  @Mock private JdbcTemplate jdbcTemplate;
+  @Mock private PlatformTransactionManager transactionManager;
+
+  private LikeCounterService likeCounterService;
+
+  @BeforeEach
+  void setup() {
+    likeCounterService = new LikeCounterService(likeRepository, jdbcTemplate, transactionManager);
+  }
+
+  @Test
+  @DisplayName("should warm up once and then serve counts from memory")
+  void shouldWarmUpOnce() {
+    when(likeRepository.countByBlog_Id(1L)).thenReturn(10L);
+
+    assertThat(likeCounterService.getCount(1L)).isEqualTo(10L);
+    likeCounterService.applyDelta(1L, 1);
+    likeCounterService.applyDelta(1L, 1);
+    likeCounterService.applyDelta(1L, -1);
+
+    assertThat(likeCounterService.getCount(1L)).isEqualTo(11L);
+    verify(likeRepository, times(1)).countByBlog_Id(1L);
+  }
+
+  @Test
+  @DisplayName("should warm cold blogs with a single grouped query")
+  void shouldWarmPageWithOneQuery() {
+    when(likeRepository.countByBlogIds(anyCollection()))
+        .thenReturn(List.of(new BlogLikeCount(1L, 3L)));
+
+    Map<Long, Long> counts = likeCounterService.getCounts(List.of(1L, 2L));
+
+    assertThat(counts).containsEntry(1L, 3L).containsEntry(2L, 0L);
+    verify(likeRepository, never()).countByBlog_Id(any());
+  }
+
+  @Test
+  @DisplayName("should keep counts unchanged across a flush and write deltas in one batch")
+  @SuppressWarnings("unchecked")
+  void shouldFlushDeltasInOneBatch() {
+    when(likeRepository.countByBlog_Id(1L)).thenReturn(5L);
+    likeCounterService.getCount(1L);
+    likeCounterService.applyDelta(1L, 2);
+    likeCounterService.applyDelta(2L, 1);
+
+    likeCounterService.flush();
+    likeCounterService.flush();
+
+    assertThat(likeCounterService.getCount(1L)).isEqualTo(7L);
+    verify(jdbcTemplate, times(1))
+        .batchUpdate(
+            anyString(),
+            anyCollection(),
+            anyInt(),
+            any(ParameterizedPreparedStatementSetter.class));
+  }
+
+  @Test
+  @DisplayName("should re-warm counters after reconciliation")
+  void shouldRewarmAfterReconcile() {
+    when(likeRepository.countByBlog_Id(1L)).thenReturn(5L, 4L);
+    likeCounterService.getCount(1L);
+
+    likeCounterService.reconcile();
+
+    assertThat(likeCounterService.getCount(1L)).isEqualTo(4L);
+  }
+
+  @Test
+  @DisplayName("should discard pending deltas the reconciliation recomputes")
+  void shouldDiscardPendingDeltasOnReconcile() {
+    when(likeRepository.countByBlog_Id(1L)).thenReturn(5L, 6L);
+    likeCounterService.getCount(1L);
+    likeCounterService.applyDelta(1L, 1);
+
+    likeCounterService.reconcile();
+    likeCounterService.flush();
+
+    assertThat(likeCounterService.getCount(1L)).isEqualTo(6L);
+    verify(jdbcTemplate, never())
+        .batchUpdate(
+            anyString(),
+            anyCollection(),
+            anyInt(),
+            any(ParameterizedPreparedStatementSetter.class));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  @DisplayName("should hold back a flush until the reconciliation is done")
+  void shouldNotFlushDuringReconcile() throws Exception {
+    CountDownLatch recomputing = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    when(jdbcTemplate.query(anyString(), any(RowMapper.class)))
+        .thenAnswer(
+            invocation -> {
+              recomputing.countDown();
+              release.await();
+              return List.of();
+            });
+    Thread reconciler = new Thread(likeCounterService::reconcile);
+    reconciler.start();
+    assertThat(recomputing.await(5, TimeUnit.SECONDS)).isTrue();
+
+    likeCounterService.applyDelta(1L, 1);
+    Thread flusher = new Thread(likeCounterService::flush);
+    flusher.start();
+    flusher.join(200);
+    assertThat(flusher.isAlive()).isTrue();
+
+    release.countDown();
+    reconciler.join();
+    flusher.join();
+    verify(jdbcTemplate, times(1))
+        .batchUpdate(
+            anyString(),
+            anyCollection(),
+            anyInt(),
+            any(ParameterizedPreparedStatementSetter.class));
+  }
+
+  @Test
+  @DisplayName("should drop counters idle for a flush interval and re-warm them on the next read")
+  void shouldEvictIdleCounters() {
+    when(likeRepository.countByBlog_Id(1L)).thenReturn(5L, 6L);
+    likeCounterService.getCount(1L);
+
+    likeCounterService.flush();
+    assertThat(likeCounterService.getCount(1L)).isEqualTo(5L);
+    likeCounterService.flush();
+    likeCounterService.flush();
+
+    assertThat(likeCounterService.getCount(1L)).isEqualTo(6L);
+    verify(likeRepository, times(2)).countByBlog_Id(1L);
+  }
+}
@@ -0,0 +1,183 @@
+package com.huseynovvusal.springblogapi.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.huseynovvusal.springblogapi.dto.response.BatchResultDto;
+import com.huseynovvusal.springblogapi.exception.BlogNotFoundException;
+import com.huseynovvusal.springblogapi.repository.BlogRepository;
+import com.huseynovvusal.springblogapi.repository.LikeRepository;
+import com.huseynovvusal.springblogapi.security.UserPrincipal;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LikeService Unit Tests")
+class LikeServiceTest {
+
+  private static final Long USER_ID = 7L;
+
+  @Mock private LikeRepository likeRepository;
+  @Mock private BlogRepository blogRepository;
+  @Mock private LikeCounterService likeCounterService;
+  @Mock private TrendingService trendingService;
+  @Mock private AuthorStatsService authorStatsService;
+
+  private LikeService likeService;
+
+  @BeforeEach
+  void setup() {
+    likeService =
+        new LikeService(
+            likeRepository,
+            blogRepository,
+            likeCounterService,
+            trendingService,
+            authorStatsService);
+    UserPrincipal principal = new UserPrincipal(USER_ID, "alice", List.of());
+    SecurityContextHolder.getContext()
+        .setAuthentication(new UsernamePasswordAuthenticationToken(principal, null, List.of()));
+  }
+
+  @AfterEach
+  void tearDown() {
+    SecurityContextHolder.clearContext();
+  }
+
+  @Test
+  @DisplayName("should add a like and count it")
+  void shouldAddLike() throws BlogNotFoundException {
+    when(likeRepository.insertIfAbsent(USER_ID, 1L)).thenReturn(1);
+
+    assertThat(likeService.addLike(1L)).isTrue();
+
+    verify(likeCounterService).applyDelta(1L, 1);
+    verify(blogRepository, never()).existsById(anyLong());
+  }
+
+  @Test
+  @DisplayName("should ignore a like the user already has")
+  void shouldIgnoreExistingLike() throws BlogNotFoundException {
+    when(likeRepository.insertIfAbsent(USER_ID, 1L)).thenReturn(0);
+    when(blogRepository.existsById(1L)).thenReturn(true);
+
+    assertThat(likeService.addLike(1L)).isFalse();
+
+    verify(likeCounterService, never()).applyDelta(anyLong(), anyInt());
+  }
+
+  @Test
+  @DisplayName("should report a missing blog when liking")
+  void shouldRejectLikeOfMissingBlog() {
+    when(likeRepository.insertIfAbsent(USER_ID, 99L)).thenReturn(0);
+    when(blogRepository.existsById(99L)).thenReturn(false);
+
+    assertThrows(BlogNotFoundException.class, () -> likeService.addLike(99L));
+    verify(likeCounterService, never()).applyDelta(anyLong(), anyInt());
+  }
+
+  @Test
+  @DisplayName("should toggle an existing like off without inserting")
+  void shouldToggleOff() throws BlogNotFoundException {
+    when(likeRepository.deleteByUserIdAndBlogIds(USER_ID, List.of(1L))).thenReturn(1);
+
+    assertThat(likeService.toggle(1L)).isFalse();
+
+    verify(likeCounterService).applyDelta(1L, -1);
+    verify(likeRepository, never()).insertIfAbsent(USER_ID, 1L);
+  }
+
+  @Test
+  @DisplayName("should toggle a missing like on")
+  void shouldToggleOn() throws BlogNotFoundException {
+    when(likeRepository.deleteByUserIdAndBlogIds(USER_ID, List.of(1L))).thenReturn(0);
+    when(likeRepository.insertIfAbsent(USER_ID, 1L)).thenReturn(1);
+
+    assertThat(likeService.toggle(1L)).isTrue();
+
+    verify(likeCounterService).applyDelta(1L, 1);
+  }
+
+  @Test
+  @DisplayName("should report a missing blog when toggling")
+  void shouldRejectToggleOfMissingBlog() {
+    when(likeRepository.deleteByUserIdAndBlogIds(USER_ID, List.of(99L))).thenReturn(0);
+    when(likeRepository.insertIfAbsent(USER_ID, 99L)).thenReturn(0);
+    when(blogRepository.existsById(99L)).thenReturn(false);
+
+    assertThrows(BlogNotFoundException.class, () -> likeService.toggle(99L));
+  }
+
+  @Test
+  @DisplayName("should leave the counters alone when there was no like to remove")
+  void shouldNotCountRemovalOfMissingLike() {
+    when(likeRepository.deleteByUser_IdAndBlog_Id(USER_ID, 1L)).thenReturn(0L);
+
+    likeService.removeLike(1L);
+
+    verify(likeCounterService, never()).applyDelta(anyLong(), anyInt());
+    verify(trendingService, never()).recordLike(anyLong(), anyInt());
+    verify(authorStatsService, never()).recordLikes(anyLong(), anyInt());
+  }
+
+  @Test
+  @DisplayName("should like only existing, not yet liked blogs in a batch")
+  void shouldPartitionBatchLike() {
+    List<Long> requested = List.of(1L, 2L, 3L);
+    when(blogRepository.findExistingIds(requested)).thenReturn(List.of(1L, 2L));
+    when(likeRepository.findLikedBlogIds(USER_ID, requested)).thenReturn(List.of(2L));
+    when(likeRepository.insertAll(USER_ID, List.of(1L))).thenReturn(new int[] {1});
+
+    BatchResultDto result = likeService.addLikes(requested);
+
+    assertThat(result.getChanged()).containsExactly(1L);
+    assertThat(result.getUnchanged()).containsExactly(2L);
+    assertThat(result.getNotFound()).containsExactly(3L);
+    verify(likeCounterService).applyDelta(1L, 1);
+    verify(likeCounterService, never()).applyDelta(2L, 1);
+    verify(authorStatsService).recordLikes(List.of(1L), 1);
+  }
+
+  @Test
+  @DisplayName("should report a like added concurrently as unchanged")
+  void shouldNotCountLikeSkippedByBatchInsert() {
+    List<Long> requested = List.of(1L, 2L);
+    when(blogRepository.findExistingIds(requested)).thenReturn(requested);
+    when(likeRepository.findLikedBlogIds(USER_ID, requested)).thenReturn(List.of());
+    when(likeRepository.insertAll(USER_ID, requested)).thenReturn(new int[] {1, 0});
+
+    BatchResultDto result = likeService.addLikes(requested);
+
+    assertThat(result.getChanged()).containsExactly(1L);
+    assertThat(result.getUnchanged()).containsExactly(2L);
+    verify(likeCounterService, never()).applyDelta(2L, 1);
+  }
+
+  @Test
+  @DisplayName("should unlike only liked blogs in a batch")
+  void shouldPartitionBatchUnlike() {
+    List<Long> requested = List.of(1L, 2L);
+    when(likeRepository.findLikedBlogIds(USER_ID, requested)).thenReturn(List.of(2L));
+
+    BatchResultDto result = likeService.removeLikes(requested);
+
+    assertThat(result.getChanged()).containsExactly(2L);
+    assertThat(result.getUnchanged()).containsExactly(1L);
+    verify(likeRepository).deleteByUserIdAndBlogIds(USER_ID, List.of(2L));
+    verify(likeCounterService).applyDelta(2L, -1);
+    verify(authorStatsService).recordLikes(List.of(2L), -1);
+  }
+}
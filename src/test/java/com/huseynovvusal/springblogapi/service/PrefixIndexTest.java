@@ -0,0 +1,59 @@
+package com.huseynovvusal.springblogapi.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("PrefixIndex Unit Tests")
+class PrefixIndexTest {
+
+  private PrefixIndex index;
+
+  @BeforeEach
+  void setup() {
+    index =
+        PrefixIndex.of(
+            Map.of("java", 10L, "javascript", 25L, "JavaFX", 3L, "jakarta", 10L, "kotlin", 7L));
+  }
+
+  @Test
+  @DisplayName("should rank matches by popularity, then alphabetically")
+  void shouldRankByPopularity() {
+    assertThat(index.suggest("ja", 10)).containsExactly("javascript", "jakarta", "java", "JavaFX");
+    assertThat(index.suggest("JAV", 2)).containsExactly("javascript", "java");
+  }
+
+  @Test
+  @DisplayName("should return nothing for unknown or blank prefixes")
+  void shouldHandleMisses() {
+    assertThat(index.suggest("rust", 10)).isEmpty();
+    assertThat(index.suggest("  ", 10)).isEmpty();
+  }
+
+  @Test
+  @DisplayName("should include inserted names without changing the original index")
+  void shouldInsertCopyOnWrite() {
+    PrefixIndex updated = index.with("Jazz");
+
+    assertThat(updated.suggest("ja", 10)).endsWith("Jazz");
+    assertThat(updated.suggest("jaz", 10)).containsExactly("Jazz");
+    assertThat(index.suggest("jaz", 10)).isEmpty();
+    assertThat(updated.with("jazz")).isSameAs(updated);
+  }
+
+  @Test
+  @DisplayName("should keep the most popular names for large prefix ranges")
+  void shouldBoundSuggestions() {
+    Map<String, Long> scores = new HashMap<>();
+    for (int i = 0; i < 1000; i++) {
+      scores.put("user" + i, (long) i);
+    }
+
+    assertThat(PrefixIndex.of(scores).suggest("u", 3))
+        .containsExactly("user999", "user998", "user997");
+  }
+}
@@ -0,0 +1,84 @@
+package com.huseynovvusal.springblogapi.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.huseynovvusal.springblogapi.model.Tag;
+import com.huseynovvusal.springblogapi.repository.TagRepository;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TagDictionary Unit Tests")
+class TagDictionaryTest {
+
+  @Mock private TagRepository tagRepository;
+
+  private TagDictionary tagDictionary;
+
+  @BeforeEach
+  void setup() {
+    tagDictionary = new TagDictionary(tagRepository, new AutocompleteService(null, null));
+    when(tagRepository.findAll())
+        .thenReturn(List.of(new Tag(1L, "java"), new Tag(2L, "Spring")));
+    tagDictionary.load();
+  }
+
+  @Test
+  @DisplayName("should resolve normalized names from memory")
+  void shouldResolveFromMemory() {
+    Set<Long> ids = tagDictionary.resolve(List.of(" JAVA ", "spring", "java"));
+
+    assertThat(ids).containsExactly(1L, 2L);
+    verify(tagRepository, never()).findByNameIn(anyCollection());
+  }
+
+  @Test
+  @DisplayName("should look up unknown names once and remember them")
+  void shouldLookUpUnknownNamesOnce() {
+    when(tagRepository.findByNameIn(List.of("kotlin"))).thenReturn(List.of(new Tag(3L, "kotlin")));
+
+    assertThat(tagDictionary.resolve(List.of("Kotlin"))).containsExactly(3L);
+    assertThat(tagDictionary.resolve(List.of("kotlin"))).containsExactly(3L);
+    verify(tagRepository).findByNameIn(List.of("kotlin"));
+  }
+
+  @Test
+  @DisplayName("should create missing tags and return references to all")
+  void shouldCreateMissingTags() {
+    when(tagRepository.findByNameIn(List.of("rust")))
+        .thenReturn(List.of())
+        .thenReturn(List.of(new Tag(4L, "rust")));
+
+    Set<Tag> tags = tagDictionary.getOrCreate(List.of("java", "Rust"));
+
+    verify(tagRepository).insertIfAbsent("rust");
+    assertThat(tags).extracting(Tag::getId).containsExactly(1L, 4L);
+    assertThat(tagDictionary.resolve(List.of("rust"))).containsExactly(4L);
+  }
+
+  @Test
+  @DisplayName("should remember unknown names until the tag is created")
+  void shouldRememberUnknownNames() {
+    when(tagRepository.findByNameIn(List.of("go")))
+        .thenReturn(List.of())
+        .thenReturn(List.of(new Tag(5L, "go")));
+
+    assertThat(tagDictionary.resolve(List.of("go"))).isEmpty();
+    assertThat(tagDictionary.resolve(List.of("Go"))).isEmpty();
+    verify(tagRepository).findByNameIn(List.of("go"));
+
+    tagDictionary.getOrCreate(List.of("go"));
+
+    assertThat(tagDictionary.resolve(List.of("go"))).containsExactly(5L);
+  }
+}
@@ -0,0 +1,55 @@
+package com.huseynovvusal.springblogapi.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.huseynovvusal.springblogapi.dto.response.TagCountDto;
+import com.huseynovvusal.springblogapi.model.Tag;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TagStatsService Unit Tests")
+class TagStatsServiceTest {
+
+  private final Tag java = new Tag(1L, "java");
+  private final Tag spring = new Tag(2L, "spring");
+  private final Tag kotlin = new Tag(3L, "kotlin");
+
+  @Mock private JdbcTemplate jdbcTemplate;
+
+  private TagStatsService tagStatsService;
+
+  @BeforeEach
+  void setup() {
+    tagStatsService = new TagStatsService(jdbcTemplate);
+  }
+
+  @Test
+  @DisplayName("should rank tags by post count, then by name")
+  void shouldRankByCount() {
+    tagStatsService.onTagsChanged(List.of(java, spring), List.of());
+    tagStatsService.onTagsChanged(List.of(spring, kotlin), List.of());
+
+    assertThat(tagStatsService.top(10))
+        .containsExactly(
+            new TagCountDto("spring", 2), new TagCountDto("java", 1), new TagCountDto("kotlin", 1));
+    assertThat(tagStatsService.top(1)).containsExactly(new TagCountDto("spring", 2));
+  }
+
+  @Test
+  @DisplayName("should apply retagging and drop unused tags")
+  void shouldApplyRetagging() {
+    tagStatsService.onTagsChanged(List.of(java), List.of());
+    assertThat(tagStatsService.top(10)).containsExactly(new TagCountDto("java", 1));
+
+    tagStatsService.onTagsChanged(List.of(kotlin), List.of(1L));
+
+    assertThat(tagStatsService.top(10)).containsExactly(new TagCountDto("kotlin", 1));
+  }
+}
@@ -0,0 +1,114 @@
+package com.huseynovvusal.springblogapi.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@DisplayName("TrendingService Unit Tests")
+class TrendingServiceTest {
+
+  private final MutableClock clock = new MutableClock(Instant.parse("2026-01-05T12:00:00Z"));
+
+  private TrendingService trendingService;
+
+  @BeforeEach
+  void setup() {
+    trendingService = new TrendingService(168, Duration.ofHours(24), 3.0, 1.0, 10, clock);
+  }
+
+  @Test
+  @DisplayName("should record activity only once the transaction commits")
+  void shouldRecordActivityAfterCommit() {
+    TransactionSynchronizationManager.initSynchronization();
+    try {
+      trendingService.recordLike(1L, 1);
+      trendingService.refresh();
+      assertThat(trendingService.top(10)).isEmpty();
+
+      TransactionSynchronizationManager.getSynchronizations()
+          .forEach(TransactionSynchronization::afterCommit);
+    } finally {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+    trendingService.refresh();
+
+    assertThat(trendingService.top(10)).containsExactly(1L);
+  }
+
+  @Test
+  @DisplayName("should rank blogs by weighted likes and views")
+  void shouldRankByWeightedActivity() {
+    trendingService.recordLike(1L, 1);
+    trendingService.recordView(2L);
+    trendingService.recordView(2L);
+    trendingService.recordLike(3L, 1);
+    trendingService.recordView(3L);
+
+    trendingService.refresh();
+
+    assertThat(trendingService.top(10)).containsExactly(3L, 1L, 2L);
+    assertThat(trendingService.top(1)).containsExactly(3L);
+  }
+
+  @Test
+  @DisplayName("should let recent activity overtake older, decayed activity")
+  void shouldDecayOlderActivity() {
+    trendingService.recordLike(1L, 3);
+    trendingService.refresh();
+
+    clock.advance(Duration.ofHours(48));
+    trendingService.recordLike(2L, 1);
+    trendingService.refresh();
+
+    assertThat(trendingService.top(10)).containsExactly(2L, 1L);
+  }
+
+  @Test
+  @DisplayName("should drop blogs whose activity left the window")
+  void shouldDropExpiredActivity() {
+    trendingService.recordLike(1L, 1);
+    trendingService.refresh();
+
+    clock.advance(Duration.ofDays(8));
+    trendingService.refresh();
+
+    assertThat(trendingService.top(10)).isEmpty();
+  }
+
+  private static final class MutableClock extends Clock {
+
+    private Instant now;
+
+    MutableClock(Instant now) {
+      this.now = now;
+    }
+
+    void advance(Duration duration) {
+      now = now.plus(duration);
+    }
+
+    @Override
+    public ZoneId getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+      return this;
+    }
+
+    @Override
+    public Instant instant() {
+      return now;
+    }
+  }
+}
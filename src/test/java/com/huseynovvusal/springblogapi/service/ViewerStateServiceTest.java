@@ -0,0 +1,71 @@
+package com.huseynovvusal.springblogapi.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import com.huseynovvusal.springblogapi.dto.response.BlogViewerStateDto;
+import com.huseynovvusal.springblogapi.repository.BookmarkRepository;
+import com.huseynovvusal.springblogapi.repository.LikeRepository;
+import com.huseynovvusal.springblogapi.security.UserPrincipal;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ViewerStateService Unit Tests")
+class ViewerStateServiceTest {
+
+  private static final Long USER_ID = 7L;
+
+  @Mock private LikeRepository likeRepository;
+  @Mock private BookmarkRepository bookmarkRepository;
+
+  private ViewerStateService viewerStateService;
+
+  @BeforeEach
+  void setup() {
+    viewerStateService = new ViewerStateService(likeRepository, bookmarkRepository);
+    UserPrincipal principal = new UserPrincipal(USER_ID, "alice", List.of());
+    SecurityContextHolder.getContext()
+        .setAuthentication(new UsernamePasswordAuthenticationToken(principal, null, List.of()));
+  }
+
+  @AfterEach
+  void tearDown() {
+    SecurityContextHolder.clearContext();
+  }
+
+  @Test
+  @DisplayName("should report like and bookmark flags in request order without duplicates")
+  void shouldResolveStatesInRequestOrder() {
+    List<Long> ids = List.of(3L, 1L, 2L, 3L);
+    when(likeRepository.findLikedBlogIds(USER_ID, ids)).thenReturn(List.of(1L, 3L));
+    when(bookmarkRepository.findBookmarkedBlogIds(USER_ID, ids)).thenReturn(List.of(3L));
+
+    List<BlogViewerStateDto> states = viewerStateService.getStates(ids);
+
+    assertThat(states)
+        .containsExactly(
+            new BlogViewerStateDto(3L, true, true),
+            new BlogViewerStateDto(1L, true, false),
+            new BlogViewerStateDto(2L, false, false));
+  }
+
+  @Test
+  @DisplayName("should report unknown blogs as neither liked nor bookmarked")
+  void shouldReportUnknownBlogsAsUnset() {
+    List<Long> ids = List.of(99L);
+    when(likeRepository.findLikedBlogIds(USER_ID, ids)).thenReturn(List.of());
+    when(bookmarkRepository.findBookmarkedBlogIds(USER_ID, ids)).thenReturn(List.of());
+
+    assertThat(viewerStateService.getStates(ids))
+        .containsExactly(new BlogViewerStateDto(99L, false, false));
+  }
+}